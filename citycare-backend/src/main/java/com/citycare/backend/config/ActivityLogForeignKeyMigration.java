@@ -0,0 +1,79 @@
+package com.citycare.backend.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import com.citycare.backend.model.SchemaMigration;
+import com.citycare.backend.repository.SchemaMigrationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// activity_log used to map issue / citizen / technician as associations, and
+// ddl-auto=update never drops the foreign keys it created for them. The journal
+// now stores plain ids so entries outlive deleted issues; with the old keys in
+// place the "Issue deleted" entry, and deleting an issue with a history at all,
+// fail. Drops those keys once, after Hibernate has updated the schema, and
+// records the step in schema_migration: later startups only look up that row
+// instead of scanning the table metadata. Rerunning it drops nothing.
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class ActivityLogForeignKeyMigration implements InitializingBean {
+
+    static final String NAME = "activity_log_drop_foreign_keys";
+    private static final String TABLE = "activity_log";
+    private static final Set<String> COLUMNS = Set.of("issue_id", "citizen_id", "technician_id");
+
+    private final DataSource dataSource;
+    private final SchemaMigrationRepository migrations;
+
+    public ActivityLogForeignKeyMigration(DataSource dataSource, SchemaMigrationRepository migrations) {
+        this.dataSource = dataSource;
+        this.migrations = migrations;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (migrations.existsById(NAME))
+            return;
+        dropForeignKeys();
+        migrations.save(new SchemaMigration(NAME, LocalDateTime.now()));
+    }
+
+    private void dropForeignKeys() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData meta = connection.getMetaData();
+            String table = meta.storesUpperCaseIdentifiers() ? TABLE.toUpperCase() : TABLE;
+
+            List<String> keys = new ArrayList<>();
+            try (ResultSet rs = meta.getImportedKeys(connection.getCatalog(), connection.getSchema(), table)) {
+                while (rs.next()) {
+                    String name = rs.getString("FK_NAME");
+                    if (name != null && COLUMNS.contains(rs.getString("FKCOLUMN_NAME").toLowerCase())
+                            && !keys.contains(name))
+                        keys.add(name);
+                }
+            }
+
+            boolean mysql = meta.getDatabaseProductName().toLowerCase().contains("mysql");
+            try (Statement st = connection.createStatement()) {
+                for (String key : keys) {
+                    st.execute("ALTER TABLE " + table + (mysql ? " DROP FOREIGN KEY " : " DROP CONSTRAINT ") + key);
+                    log.info("Dropped foreign key {} from {}", key, TABLE);
+                }
+            }
+        }
+    }
+}
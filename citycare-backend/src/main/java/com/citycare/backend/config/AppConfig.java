@@ -31,21 +31,24 @@ public class AppConfig {
     
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtProvider jwtProvider) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/login", "/api/auth/**").permitAll()
-                .requestMatchers("/api/issues/all-public").permitAll()
+                .requestMatchers("/api/issues/all-public", "/api/issues/nearby", "/api/issues/summaries",
+                        "/api/issues/*/detail").permitAll()
+                // authenticates itself: EventSource may carry the token as a query parameter
+                .requestMatchers("/api/issues/my-issues/stream").permitAll()
                 .requestMatchers("/api/issues/**").authenticated()
                 .requestMatchers("/auth/technicians/**").permitAll()
                 .requestMatchers("/api/officers/**").permitAll()
                 .anyRequest().permitAll()
             )
             // .addFilterBefore(jwtTokenValidator, UsernamePasswordAuthenticationFilter.class);
-            .addFilterBefore(new JwtTokenValidator(), BasicAuthenticationFilter.class);
+            .addFilterBefore(new JwtTokenValidator(jwtProvider), BasicAuthenticationFilter.class);
 
         return http.build();
     }
@@ -57,7 +60,7 @@ public class AppConfig {
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT","PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "X-Next-Cursor", "X-Duplicate-Of"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
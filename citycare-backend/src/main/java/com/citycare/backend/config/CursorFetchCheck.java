@@ -0,0 +1,52 @@
+package com.citycare.backend.config;
+
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Streamed queries (issue export, streaming public feed) read a forward-only
+// cursor in fetch-size chunks. MySQL Connector/J ignores the fetch size and
+// buffers the whole result set in memory unless useCursorFetch is on, so
+// startup fails on a MySQL URL without it instead of the export exhausting
+// the heap later. Other databases are left alone.
+@Component
+public class CursorFetchCheck implements InitializingBean {
+
+    private final DataSource dataSource;
+
+    public CursorFetchCheck(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!dataSource.isWrapperFor(HikariDataSource.class))
+            return;
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        if (!cursorFetchEnabled(hikari.getJdbcUrl(), hikari.getDataSourceProperties()))
+            throw new IllegalStateException("MySQL datasource without useCursorFetch=true: streamed queries would be "
+                    + "buffered in memory. Set spring.datasource.hikari.data-source-properties.useCursorFetch=true "
+                    + "or add useCursorFetch=true to the JDBC URL");
+    }
+
+    // true unless the URL is MySQL and neither the URL nor the connection
+    // properties turn cursor fetch on (a URL parameter wins over a property)
+    static boolean cursorFetchEnabled(String url, Properties properties) {
+        if (url == null || !url.startsWith("jdbc:mysql:"))
+            return true;
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            for (String param : url.substring(query + 1).split("&")) {
+                int eq = param.indexOf('=');
+                if (eq > 0 && param.substring(0, eq).equalsIgnoreCase("useCursorFetch"))
+                    return Boolean.parseBoolean(param.substring(eq + 1));
+            }
+        }
+        return properties != null && Boolean.parseBoolean(properties.getProperty("useCursorFetch"));
+    }
+}
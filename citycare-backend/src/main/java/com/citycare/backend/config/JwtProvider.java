@@ -1,21 +1,68 @@
 package com.citycare.backend.config;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 import javax.crypto.SecretKey;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import com.citycare.backend.utils.TtlCache;
+
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtProvider {
 
-    SecretKey key = Keys.hmacShaKeyFor(JWT_CONSTANT.SECRET_KEY.getBytes());
+    private final SecretKey key = Keys.hmacShaKeyFor(JWT_CONSTANT.SECRET_KEY.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    // What the app reads from a verified token. Immutable, unlike jjwt's Claims,
+    // so one cached instance can be handed to concurrent requests.
+    public record VerifiedToken(String email, String authorities, long expiresAt) {
+    }
+
+    // SHA-256 of already verified tokens -> their contents, so a token is
+    // HMAC-verified once rather than on every request
+    private final TtlCache<String, VerifiedToken> verifiedTokens;
+
+    // citycare.jwt.verifications by result
+    private final Counter cachedVerifications;
+    private final Counter signatureVerifications;
+    private final Counter rejectedVerifications;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    public JwtProvider(@Value("${citycare.jwt.verified-cache.max-size:10000}") int cacheSize,
+            @Value("${citycare.jwt.verified-cache.ttl-seconds:60}") long cacheTtlSeconds, MeterRegistry registry) {
+        this.verifiedTokens = new TtlCache<>(cacheSize, cacheTtlSeconds * 1000);
+        this.cachedVerifications = verifications(registry, "cached");
+        this.signatureVerifications = verifications(registry, "verified");
+        this.rejectedVerifications = verifications(registry, "rejected");
+    }
+
+    private static Counter verifications(MeterRegistry registry, String result) {
+        return Counter.builder("citycare.jwt.verifications")
+                .description("JWTs checked, by cache hit / signature verified / rejected")
+                .tag("result", result)
+                .register(registry);
+    }
 
     public String generateJwtToken(Authentication auth) {
         Collection<? extends GrantedAuthority> authorities = auth.getAuthorities();
@@ -34,13 +81,38 @@ public class JwtProvider {
     }
 
     public String getEmailFromJwtToken(String jwt) {
+        return verify(jwt).email();
+    }
+
+    // Verified token contents, from the cache when it was seen recently
+    public VerifiedToken verify(String jwt) {
         if (jwt.startsWith("Bearer ")) {
             jwt = jwt.substring(7);
         }
-        Claims claim = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
-        String email = String.valueOf(claim.get("email"));
+        String digest = digest(jwt);
+        VerifiedToken token = verifiedTokens.get(digest);
+        if (token != null) {
+            if (token.expiresAt() > System.currentTimeMillis()) {
+                cachedVerifications.increment();
+                return token;
+            }
+            verifiedTokens.remove(digest);
+        }
 
-        return email;
+        // throws if the signature is wrong or the token has expired
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(jwt).getBody();
+        } catch (RuntimeException e) {
+            rejectedVerifications.increment();
+            throw e;
+        }
+        signatureVerifications.increment();
+        Date expiration = claims.getExpiration();
+        token = new VerifiedToken(String.valueOf(claims.get("email")), String.valueOf(claims.get("authorities")),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        verifiedTokens.put(digest, token);
+        return token;
     }
 
     public String populateAuthorities(Collection<? extends GrantedAuthority> authorities) {
@@ -52,4 +124,10 @@ public class JwtProvider {
         return String.join(",", auth);
     }
 
+    private static String digest(String jwt) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return Base64.getEncoder().encodeToString(md.digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+    }
+
 }
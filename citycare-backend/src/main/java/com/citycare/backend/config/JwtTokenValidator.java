@@ -4,11 +4,8 @@ package com.citycare.backend.config;
 import java.io.IOException;
 import java.util.List;
 
-import javax.crypto.SecretKey;
-
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,9 +13,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +20,12 @@ import jakarta.servlet.http.HttpServletResponse;
 
 public class JwtTokenValidator extends OncePerRequestFilter {
 
+    private final JwtProvider jwtProvider;
+
+    public JwtTokenValidator(JwtProvider jwtProvider) {
+        this.jwtProvider = jwtProvider;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -35,15 +35,11 @@ public class JwtTokenValidator extends OncePerRequestFilter {
         if(jwt!=null){
             jwt=jwt.substring(7);
             try {
-                SecretKey key=Keys.hmacShaKeyFor(JWT_CONSTANT.SECRET_KEY.getBytes());
-                Claims claims=Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
-
-                String email=String.valueOf(claims.get("email"));
-                String authorities=String.valueOf(claims.get("authorities"));
+                JwtProvider.VerifiedToken token=jwtProvider.verify(jwt);
 
-                List<GrantedAuthority> auth=AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
+                List<GrantedAuthority> auth=AuthorityUtils.commaSeparatedStringToAuthorityList(token.authorities());
 
-                Authentication authentication=new UsernamePasswordAuthenticationToken(email,null,auth);
+                UsernamePasswordAuthenticationToken authentication=new UsernamePasswordAuthenticationToken(token.email(),null,auth);
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -55,4 +51,3 @@ public class JwtTokenValidator extends OncePerRequestFilter {
     }
     
 }
-
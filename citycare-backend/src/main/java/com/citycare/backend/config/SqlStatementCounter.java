@@ -0,0 +1,68 @@
+package com.citycare.backend.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Counts the SQL statements Hibernate prepares on a request thread and records
+// the total per request as citycare.sql.statements, tagged like
+// http.server.requests. Statements issued on other threads (scheduled flushes,
+// streamed response bodies) are not attributed to a request.
+@Component
+public class SqlStatementCounter extends OncePerRequestFilter
+        implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry registry;
+
+    public SqlStatementCounter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = CURRENT.get();
+        if (count != null)
+            count[0]++;
+        return sql;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int[] count = new int[1];
+        CURRENT.set(count);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("citycare.sql.statements")
+                    .description("SQL statements prepared per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(count[0]);
+        }
+    }
+}
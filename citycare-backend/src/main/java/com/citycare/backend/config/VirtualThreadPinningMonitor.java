@@ -0,0 +1,103 @@
+package com.citycare.backend.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+// Virtual-thread mode only. A virtual thread that blocks while holding a
+// monitor (synchronized, in our code or a library such as a JDBC driver) pins
+// its carrier thread. An in-process JFR stream picks up jdk.VirtualThreadPinned
+// events above the threshold, records them as citycare.virtual.pinned tagged
+// with the first frame outside the JDK, and logs the stack once per site.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = { "spring.threads.virtual.enabled", "citycare.virtual-threads.pinning-monitor" },
+        havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    // distinct site tags; anything beyond is recorded as "other"
+    private static final int MAX_SITES = 50;
+    private static final int LOGGED_FRAMES = 15;
+
+    private final MeterRegistry registry;
+    private final Duration threshold;
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+            @Value("${citycare.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.registry = registry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null)
+            stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = site(frames);
+        boolean first = false;
+        if (!sites.contains(site)) {
+            if (sites.size() < MAX_SITES)
+                first = sites.add(site);
+            else
+                site = "other";
+        }
+
+        Timer.builder("citycare.virtual.pinned")
+                .description("Virtual threads pinned to their carrier while blocked, by site")
+                .tag("site", site)
+                .register(registry)
+                .record(event.getDuration());
+
+        if (first) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+                sb.append("\n\tat ").append(frame(frames.get(i)));
+            }
+            log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, sb);
+        }
+    }
+
+    // first frame outside the JDK: the library or class holding the monitor
+    private static String site(List<RecordedFrame> frames) {
+        for (RecordedFrame f : frames) {
+            String type = f.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun."))
+                return type + "." + f.getMethod().getName();
+        }
+        return frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getType().getName();
+    }
+
+    private static String frame(RecordedFrame f) {
+        return f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber();
+    }
+}
@@ -1,31 +1,66 @@
 package com.citycare.backend.controller;
 
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
 import com.citycare.backend.model.Issue;
 import com.citycare.backend.model.IssueAttachment;
 import com.citycare.backend.model.Technician;
 import com.citycare.backend.request.IssueRequest;
 import com.citycare.backend.model.Address;
 import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Officer;
+import com.citycare.backend.response.ActivityLogResponse;
+import com.citycare.backend.response.CursorPage;
+import com.citycare.backend.response.ImportResponse;
+import com.citycare.backend.response.IssueDetailResponse;
+import com.citycare.backend.response.IssueSummaryResponse;
+import com.citycare.backend.response.TechnicianIssueResponse;
+import com.citycare.backend.response.TechnicianSummaryResponse;
+import com.citycare.backend.service.ActivityJournal;
 import com.citycare.backend.service.IssueService;
+import com.citycare.backend.service.IssueStatusStream;
+import com.citycare.backend.service.IssueTransferService;
+import com.citycare.backend.service.PublicFeedCache;
 import com.citycare.backend.service.UserService;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/issues")
 public class IssueController {
 
+    public static final String DUPLICATE_OF_HEADER = "X-Duplicate-Of";
+
     private final IssueService issueService;
     private final UserService userService;
+    private final IssueStatusStream issueStatusStream;
+    private final ActivityJournal activityJournal;
+    private final IssueTransferService issueTransferService;
+    private final PublicFeedCache publicFeedCache;
 
-    public IssueController(IssueService issueService, UserService userService) {
+    public IssueController(IssueService issueService, UserService userService, IssueStatusStream issueStatusStream,
+            ActivityJournal activityJournal, IssueTransferService issueTransferService,
+            PublicFeedCache publicFeedCache) {
         this.issueService = issueService;
         this.userService = userService;
+        this.issueStatusStream = issueStatusStream;
+        this.activityJournal = activityJournal;
+        this.issueTransferService = issueTransferService;
+        this.publicFeedCache = publicFeedCache;
     }
 
     // ---------------- CITIZEN ----------------
@@ -71,17 +106,57 @@ public class IssueController {
 
         }
 
+        // likely duplicates travel in a header; in link mode the existing issue is returned instead
+        List<Long> duplicates = issueService.findDuplicates(issue);
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok();
+        if (!duplicates.isEmpty())
+            res.header(DUPLICATE_OF_HEADER, duplicates.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        if (!duplicates.isEmpty() && issueService.linksDuplicates())
+            return res.body(issueService.linkDuplicate(duplicates.get(0), citizen.getId()));
+
         Issue created = issueService.createIssue(issue);
-        return ResponseEntity.ok(created);
+        return res.body(created);
+    }
+
+    // Open issues nearby that look like the one being reported, best match first
+    @PostMapping("/duplicates")
+    public ResponseEntity<List<IssueSummaryResponse>> findDuplicates(@RequestBody IssueRequest request)
+            throws Exception {
+        Address address = new Address();
+        address.setLatitude(request.getLatitude());
+        address.setLongitude(request.getLongitude());
+
+        Issue draft = new Issue();
+        draft.setTitle(request.getTitle());
+        draft.setDescription(request.getDescription());
+        if (request.getIssueType() != null)
+            draft.setIssueType(Enum.valueOf(com.citycare.backend.domain.IssueType.class,
+                    request.getIssueType().toUpperCase()));
+        draft.setAddress(address);
+        return ResponseEntity.ok(issueService.getDuplicateCandidates(draft));
     }
 
     @GetMapping("/my-issues")
-    public ResponseEntity<List<Issue>> getMyIssues(@RequestHeader("Authorization") String jwt) throws Exception {
+    public ResponseEntity<List<IssueDetailResponse>> getMyIssues(@RequestHeader("Authorization") String jwt)
+            throws Exception {
         Citizen citizen = (Citizen) userService.findUserByJwt(jwt);
-        List<Issue> issues = issueService.getIssuesByCitizen(citizen.getId());
+        List<IssueDetailResponse> issues = issueService.getIssuesByCitizen(citizen.getId());
         return ResponseEntity.ok(issues);
     }
 
+    // Live status changes for the caller's issues. EventSource cannot set
+    // headers, so the token may also be passed as ?token=
+    @GetMapping(value = "/my-issues/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyIssueUpdates(@RequestHeader(value = "Authorization", required = false) String jwt,
+            @RequestParam(required = false) String token) throws Exception {
+        String credentials = jwt != null ? jwt : token;
+        if (credentials == null)
+            throw new Exception("Invalid user");
+        if (!(userService.findUserByJwt(credentials) instanceof Citizen citizen))
+            throw new Exception("Invalid user");
+        return issueStatusStream.subscribe(citizen.getId());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteIssue(@PathVariable Long id,
             @RequestHeader("Authorization") String jwt) throws Exception {
@@ -93,21 +168,66 @@ public class IssueController {
     // ---------------- OFFICER ----------------
 
     @GetMapping("/all")
-    public ResponseEntity<List<Issue>> getAllIssues(@RequestHeader("Authorization") String jwt) throws Exception {
+    public ResponseEntity<List<IssueDetailResponse>> getAllIssues(@RequestHeader("Authorization") String jwt,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) throws Exception {
         userService.validateOfficer(jwt); // only officer can fetch all
-        List<Issue> issues = issueService.getAllIssues();
-        return ResponseEntity.ok(issues);
+        CursorPage<IssueDetailResponse> page = issueService.getIssuesPage(status, type, city, cursor, size);
+        return pageResponse(page);
     }
 
     @PostMapping("/{id}/assign-technicians")
     public ResponseEntity<Issue> assignTechnicians(@PathVariable Long id,
             @RequestBody Set<Long> technicianIds,
             @RequestHeader("Authorization") String jwt) throws Exception {
-        userService.validateOfficer(jwt);
-        Issue updated = issueService.assignTechnicians(id, technicianIds);
+        Officer officer = userService.validateOfficer(jwt);
+        Issue updated = issueService.assignTechnicians(id, technicianIds, officer.getId());
         return ResponseEntity.ok(updated);
     }
 
+    @PostMapping("/{id}/auto-assign")
+    public ResponseEntity<Issue> autoAssignTechnician(@PathVariable Long id,
+            @RequestHeader("Authorization") String jwt) throws Exception {
+        Officer officer = userService.validateOfficer(jwt);
+        return ResponseEntity.ok(issueService.autoAssignTechnician(id, officer.getId()));
+    }
+
+    @GetMapping("/{id}/recommended-technicians")
+    public ResponseEntity<List<TechnicianSummaryResponse>> getRecommendedTechnicians(@PathVariable Long id,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("Authorization") String jwt) throws Exception {
+        userService.validateOfficer(jwt);
+        return ResponseEntity.ok(issueService.getRecommendedTechnicians(id, size));
+    }
+
+    // Whole table as csv or ndjson, streamed from a database cursor
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIssues(@RequestParam(defaultValue = "csv") String format,
+            @RequestHeader("Authorization") String jwt) throws Exception {
+        userService.validateOfficer(jwt);
+        if (!IssueTransferService.isSupported(format))
+            throw new Exception("Unsupported format: " + format);
+        MediaType type = "csv".equals(format) ? new MediaType("text", "csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"issues." + format + "\"")
+                .body(out -> issueTransferService.export(format, out));
+    }
+
+    // Raw csv or ndjson request body, read record by record
+    @PostMapping("/import")
+    public ResponseEntity<ImportResponse> importIssues(@RequestParam(defaultValue = "csv") String format,
+            @RequestHeader("Authorization") String jwt, HttpServletRequest request) throws Exception {
+        userService.validateOfficer(jwt);
+        if (!IssueTransferService.isSupported(format))
+            throw new Exception("Unsupported format: " + format);
+        return ResponseEntity.ok(issueTransferService.importIssues(format, request.getInputStream()));
+    }
+
     // ---------------- TECHNICIAN ----------------
 
     @PatchMapping("/{id}/update-status")
@@ -119,18 +239,129 @@ public class IssueController {
         return ResponseEntity.ok(updated);
     }
 
+    // same rows as /my-assigned/summary
     @GetMapping("/my-assigned")
-    public ResponseEntity<List<Issue>> getAssignedIssues(@RequestHeader("Authorization") String jwt) throws Exception {
-        Technician tech = (Technician) userService.findUserByJwt(jwt);
-        List<Issue> issues = issueService.getIssuesForTechnician(tech.getId());
-        return ResponseEntity.ok(issues);
+    public ResponseEntity<List<TechnicianIssueResponse>> getAssignedIssues(@RequestHeader("Authorization") String jwt)
+            throws Exception {
+        return getAssignedIssueView(jwt);
     }
 
     @GetMapping("/all-public")
-    public ResponseEntity<List<Issue>> getAllIssuesPublic() throws Exception {
-        List<Issue> issues = issueService.getAllIssues();
+    public ResponseEntity<byte[]> getAllIssuesPublic(@RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws Exception {
+        String key = String.join("|", "all-public", status, type, PublicFeedCache.cityKey(city), cursor,
+                String.valueOf(size));
+        PublicFeedCache.Snapshot snapshot = publicFeedCache.get(key, city,
+                () -> issueService.getIssuesPage(status, type, city, cursor, size));
+        return snapshotResponse(snapshot, ifNoneMatch, acceptEncoding);
+    }
+
+    // Streaming mode of the public feed: all matching issues in one JSON array,
+    // written from a database cursor in flushed chunks
+    @GetMapping(value = "/all-public", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllIssuesPublic(@RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city) throws Exception {
+        // filters are checked before the response starts
+        IssueStatus issueStatus = issueService.parseStatus(status);
+        IssueType issueType = issueService.parseType(type);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> issueService.writeIssueFeed(issueStatus, issueType, city, out));
+    }
 
+    @GetMapping("/nearby")
+    public ResponseEntity<List<Issue>> getNearbyIssues(@RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) Integer size) throws Exception {
+        List<Issue> issues = issueService.getNearbyIssues(lat, lon, radius, size);
         return ResponseEntity.ok(issues);
     }
 
+    // ---------------- READ MODEL ----------------
+
+    @GetMapping("/summaries")
+    public ResponseEntity<byte[]> getIssueSummaries(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws Exception {
+        String key = String.join("|", "summaries", status, type, PublicFeedCache.cityKey(city), cursor,
+                String.valueOf(size));
+        PublicFeedCache.Snapshot snapshot = publicFeedCache.get(key, city,
+                () -> issueService.getIssueSummaries(status, type, city, cursor, size));
+        return snapshotResponse(snapshot, ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<IssueSummaryResponse>> searchIssues(@RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) throws Exception {
+        CursorPage<IssueSummaryResponse> page = issueService.searchIssues(q, cursor, size);
+        return pageResponse(page);
+    }
+
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<IssueDetailResponse> getIssueDetail(@PathVariable Long id) throws Exception {
+        return ResponseEntity.ok(issueService.getIssueDetail(id));
+    }
+
+    // Activity journal for one issue, oldest first; next page cursor in X-Next-Cursor.
+    // Reporter, assigned technicians, officers and heads only.
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<List<ActivityLogResponse>> getIssueTimeline(@PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("Authorization") String jwt) throws Exception {
+        issueService.validateTimelineAccess(id, userService.findUserByJwt(jwt));
+        CursorPage<ActivityLogResponse> page = activityJournal.getTimeline(id, cursor, size);
+        return pageResponse(page);
+    }
+
+    @GetMapping("/my-assigned/summary")
+    public ResponseEntity<List<TechnicianIssueResponse>> getAssignedIssueView(
+            @RequestHeader("Authorization") String jwt) throws Exception {
+        Technician tech = (Technician) userService.findUserByJwt(jwt);
+        return ResponseEntity.ok(issueService.getTechnicianView(tech.getId()));
+    }
+
+    // Body stays a plain list; the cursor for the next page travels in a header
+    private <T> ResponseEntity<List<T>> pageResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok();
+        if (page.getNextCursor() != null)
+            res.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        return res.body(page.getItems());
+    }
+
+    // Cached listing bytes; 304 when the client already holds the current tag.
+    // Clients must revalidate; the gzip bytes go out whenever they are accepted.
+    private ResponseEntity<byte[]> snapshotResponse(PublicFeedCache.Snapshot snapshot, String ifNoneMatch,
+            String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+        boolean notModified = PublicFeedCache.matches(ifNoneMatch, etag);
+        ResponseEntity.BodyBuilder res = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (snapshot.nextCursor() != null)
+            res.header(CursorPage.NEXT_CURSOR_HEADER, snapshot.nextCursor());
+        if (notModified)
+            return res.build();
+        if (gzip)
+            res.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return res.contentType(MediaType.APPLICATION_JSON).body(gzip ? snapshot.gzip() : snapshot.json());
+    }
+
 }
@@ -0,0 +1,61 @@
+package com.citycare.backend.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.citycare.backend.response.CursorPage;
+import com.citycare.backend.response.NotificationResponse;
+import com.citycare.backend.service.NotificationService;
+import com.citycare.backend.service.NotificationService.Recipient;
+import com.citycare.backend.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final UserService userService;
+
+    // Newest first; ?unread=true for unread only, next page cursor in X-Next-Cursor
+    @GetMapping
+    public ResponseEntity<List<NotificationResponse>> getNotifications(
+            @RequestHeader("Authorization") String jwt,
+            @RequestParam(defaultValue = "false") boolean unread,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) throws Exception {
+        Recipient recipient = notificationService.recipientOf(userService.findUserByJwt(jwt));
+        CursorPage<NotificationResponse> page = notificationService.getNotifications(recipient, unread, cursor, size);
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok();
+        if (page.getNextCursor() != null)
+            res.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        return res.body(page.getItems());
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@RequestHeader("Authorization") String jwt)
+            throws Exception {
+        Recipient recipient = notificationService.recipientOf(userService.findUserByJwt(jwt));
+        return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount(recipient)));
+    }
+
+    @PostMapping("/{id}/read")
+    public ResponseEntity<Void> markRead(@PathVariable Long id, @RequestHeader("Authorization") String jwt)
+            throws Exception {
+        Recipient recipient = notificationService.recipientOf(userService.findUserByJwt(jwt));
+        notificationService.markRead(recipient, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<Void> markAllRead(@RequestHeader("Authorization") String jwt) throws Exception {
+        Recipient recipient = notificationService.recipientOf(userService.findUserByJwt(jwt));
+        notificationService.markAllRead(recipient);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.citycare.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.citycare.backend.model.Head;
+import com.citycare.backend.model.Officer;
+import com.citycare.backend.response.IssueStatsResponse;
+import com.citycare.backend.response.ResolutionLatencyResponse;
+import com.citycare.backend.service.IssueStats;
+import com.citycare.backend.service.ResolutionLatency;
+import com.citycare.backend.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final IssueStats issueStats;
+    private final ResolutionLatency resolutionLatency;
+    private final UserService userService;
+
+    // Dashboard counts by type, status and city, answered from memory
+    @GetMapping
+    public ResponseEntity<IssueStatsResponse> getStats(@RequestHeader("Authorization") String jwt) throws Exception {
+        validateStaff(jwt);
+        return ResponseEntity.ok(issueStats.getStats());
+    }
+
+    // p50 / p90 / p99 of report-to-resolution time by type, city and technician
+    @GetMapping("/resolution-times")
+    public ResponseEntity<ResolutionLatencyResponse> getResolutionTimes(@RequestHeader("Authorization") String jwt)
+            throws Exception {
+        validateStaff(jwt);
+        return ResponseEntity.ok(resolutionLatency.getReport());
+    }
+
+    private void validateStaff(String jwt) throws Exception {
+        Object user = userService.findUserByJwt(jwt);
+        if (!(user instanceof Officer) && !(user instanceof Head))
+            throw new Exception("Unauthorized");
+    }
+}
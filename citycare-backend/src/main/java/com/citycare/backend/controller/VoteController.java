@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 
 import com.citycare.backend.model.Vote;
 import com.citycare.backend.model.Citizen;
+import com.citycare.backend.response.VoteCountResponse;
 import com.citycare.backend.service.UserService;
 import com.citycare.backend.service.VoteService;
 
@@ -48,14 +49,14 @@ public class VoteController {
 
     // Get vote counts
     @GetMapping("/{issueId}/count")
-    public ResponseEntity<?> getVoteCount(@PathVariable Long issueId) throws Exception {
-        Long upvotes = voteService.countUpvotes(issueId);
-        Long downvotes = voteService.countDownvotes(issueId);
-
-        return ResponseEntity.ok(new java.util.HashMap<String, Long>() {{
-            put("upvotes", upvotes);
-            put("downvotes", downvotes);
-        }});
+    public ResponseEntity<VoteCountResponse> getVoteCount(@PathVariable Long issueId) throws Exception {
+        return ResponseEntity.ok(voteService.getVoteCounts(issueId));
+    }
+
+    // Get vote counts for many issues at once, e.g. /api/votes/counts?ids=1,2,3
+    @GetMapping("/counts")
+    public ResponseEntity<List<VoteCountResponse>> getVoteCounts(@RequestParam List<Long> ids) throws Exception {
+        return ResponseEntity.ok(voteService.getVoteCounts(ids));
     }
 
     // Get user's vote for an issue
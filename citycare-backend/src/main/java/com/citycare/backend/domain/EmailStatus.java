@@ -0,0 +1,7 @@
+package com.citycare.backend.domain;
+
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,23 @@
+package com.citycare.backend.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Published by IssueService / VoteService after an issue changes; listeners run
+// after commit. actorRole / actorId identify who made the change.
+public record IssueEvent(
+        IssueEventType type,
+        Long issueId,
+        Long citizenId,
+        String title,
+        String description,
+        IssueType issueType,
+        IssueStatus status,
+        String city,
+        Double latitude,
+        Double longitude,
+        List<Long> technicianIds,
+        USER_ROLE actorRole,
+        Long actorId,
+        LocalDateTime at) {
+}
@@ -0,0 +1,10 @@
+package com.citycare.backend.domain;
+
+public enum IssueEventType {
+    CREATED,
+    ASSIGNED,
+    STATUS_CHANGED,
+    DELETED,
+    VOTED,
+    VOTE_REMOVED
+}
@@ -0,0 +1,15 @@
+package com.citycare.backend.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Published by IssueService when an open issue is resolved; listeners run
+// after commit. A resolved issue set to RESOLVED again publishes nothing.
+public record IssueResolvedEvent(
+        Long issueId,
+        IssueType issueType,
+        String city,
+        List<Long> technicianIds,
+        LocalDateTime reportedAt,
+        LocalDateTime resolvedAt) {
+}
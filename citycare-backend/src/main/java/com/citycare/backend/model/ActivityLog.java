@@ -1,10 +1,16 @@
 package com.citycare.backend.model;
 
 import java.time.LocalDateTime;
+
+import com.citycare.backend.domain.USER_ROLE;
+
 import jakarta.persistence.*;
 import lombok.*;
 
+// Append-only journal entry. Issue and actor are plain ids rather than
+// associations so the trail outlives deleted issues and technicians.
 @Entity
+@Table(indexes = @Index(name = "idx_activity_log_issue_id", columnList = "issue_id, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,15 +26,11 @@ public class ActivityLog {
 
     private LocalDateTime timestamp = LocalDateTime.now();
 
-    @ManyToOne
-    @JoinColumn(name = "issue_id")
-    private Issue issue;
+    @Column(name = "issue_id")
+    private Long issueId;
 
-    @ManyToOne
-    @JoinColumn(name = "citizen_id")
-    private Citizen citizen; 
+    @Enumerated(EnumType.STRING)
+    private USER_ROLE actorRole;
 
-    @ManyToOne
-    @JoinColumn(name = "technician_id")
-    private Technician technician; 
+    private Long actorId;
 }
@@ -58,9 +58,9 @@ public class Citizen {
     // @JsonManagedReference
     // private List<Issue> reportedIssues;
 
-    @OneToMany(mappedBy = "citizen", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "citizen", fetch = FetchType.LAZY)
     @JsonIgnore
-   private List<Issue> reportedIssues;
+    private List<Issue> reportedIssues;
 
     @OneToMany(mappedBy = "citizen", cascade = CascadeType.ALL)
     @JsonIgnore
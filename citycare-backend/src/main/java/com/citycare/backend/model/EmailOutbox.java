@@ -0,0 +1,45 @@
+package com.citycare.backend.model;
+
+import java.time.LocalDateTime;
+
+import com.citycare.backend.domain.EmailStatus;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_claim", columnList = "claim_token")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String recipient;
+    private String subject;
+
+    @Lob
+    private String htmlContent; // cleared once sent, it may carry OTPs / passwords
+
+    @Enumerated(EnumType.STRING)
+    private EmailStatus status = EmailStatus.PENDING;
+
+    private Integer attempts = 0;
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(length = 36)
+    private String claimToken; // dispatcher run that claimed the row
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime sentAt;
+}
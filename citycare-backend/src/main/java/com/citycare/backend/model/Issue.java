@@ -14,6 +14,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_issue_reported_at_id", columnList = "reported_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,6 +42,12 @@ public class Issue {
     @Enumerated(EnumType.STRING)
     private IssueStatus status = IssueStatus.PENDING;
 
+    // Denormalized vote tallies, written only by VoteCounter's batched flush
+    @Column(updatable = false)
+    private Long upvoteCount = 0L;
+    @Column(updatable = false)
+    private Long downvoteCount = 0L;
+
     // @ManyToOne
     // @JsonBackReference
     // private Citizen citizen;
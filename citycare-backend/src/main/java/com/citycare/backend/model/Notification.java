@@ -5,6 +5,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_notification_citizen_id", columnList = "citizen_id, id"),
+        @Index(name = "idx_notification_technician_id", columnList = "technician_id, id") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,24 @@
+package com.citycare.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One row per one-time schema step that has been applied to this database
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaMigration {
+
+    @Id
+    private String name;
+
+    private LocalDateTime appliedAt;
+}
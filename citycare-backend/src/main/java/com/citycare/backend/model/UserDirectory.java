@@ -0,0 +1,28 @@
+package com.citycare.backend.model;
+
+import com.citycare.backend.domain.USER_ROLE;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// One row per account across all four user tables: email -> role + id
+@Entity
+@Table(name = "user_directory", indexes = @Index(name = "idx_user_directory_email", columnList = "email", unique = true))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    private USER_ROLE role;
+
+    private Long userId;
+}
@@ -0,0 +1,26 @@
+package com.citycare.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.citycare.backend.model.ActivityLog;
+import com.citycare.backend.response.ActivityLogResponse;
+
+@Repository
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
+
+    // Oldest first, keyset paged by id
+    @Query("SELECT new com.citycare.backend.response.ActivityLogResponse(" +
+           "l.id, l.action, l.timestamp, l.actorRole, l.actorId) " +
+           "FROM ActivityLog l " +
+           "WHERE l.issueId = :issueId AND (:cursorId IS NULL OR l.id > :cursorId) " +
+           "ORDER BY l.id ASC")
+    List<ActivityLogResponse> findTimeline(@Param("issueId") Long issueId,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
+}
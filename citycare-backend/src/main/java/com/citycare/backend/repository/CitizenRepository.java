@@ -1,6 +1,10 @@
 package com.citycare.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.citycare.backend.model.Citizen;
@@ -8,4 +12,11 @@ import com.citycare.backend.model.Citizen;
 @Repository
 public interface CitizenRepository extends JpaRepository<Citizen, Long> {
     Citizen findByEmail(String email);
+
+    @Query("SELECT c.id FROM Citizen c WHERE c.email = :email")
+    Long findIdByEmail(@Param("email") String email);
+
+    // id, email of every citizen (user directory backfill)
+    @Query("SELECT x.id, x.email FROM Citizen x")
+    List<Object[]> findAllIdAndEmail();
 }
@@ -0,0 +1,37 @@
+package com.citycare.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.citycare.backend.model.EmailOutbox;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // Pending mails whose (back-off) time has come, oldest first
+    @Query("SELECT e FROM EmailOutbox e " +
+           "WHERE e.status = com.citycare.backend.domain.EmailStatus.PENDING AND e.nextAttemptAt <= :now " +
+           "ORDER BY e.nextAttemptAt, e.id")
+    List<EmailOutbox> findDue(@Param("now") LocalDateTime now, Limit limit);
+
+    // Claims the rows that are still due for this dispatcher: stamps them with
+    // its token and pushes them out by the lease, so another node's dispatcher
+    // skips them. A node that dies mid-send leaves them to be retried after it.
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.claimToken = :token, e.nextAttemptAt = :leaseUntil " +
+           "WHERE e.id IN :ids AND e.status = com.citycare.backend.domain.EmailStatus.PENDING " +
+           "AND e.nextAttemptAt <= :now")
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<EmailOutbox> findByClaimToken(String claimToken);
+}
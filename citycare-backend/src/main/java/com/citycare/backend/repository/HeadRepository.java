@@ -1,6 +1,9 @@
 package com.citycare.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.citycare.backend.model.Head;
@@ -8,4 +11,8 @@ import com.citycare.backend.model.Head;
 @Repository
 public interface HeadRepository extends JpaRepository<Head, Long> {
     Head findByEmail(String email);
+
+    // id, email of every head (user directory backfill)
+    @Query("SELECT x.id, x.email FROM Head x")
+    List<Object[]> findAllIdAndEmail();
 }
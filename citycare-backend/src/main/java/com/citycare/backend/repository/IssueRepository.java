@@ -1,12 +1,27 @@
 package com.citycare.backend.repository;
 
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
 import com.citycare.backend.model.Issue;
+import com.citycare.backend.response.IssueDetailResponse;
+import com.citycare.backend.response.IssueExportRow;
+import com.citycare.backend.response.IssueSummaryResponse;
+import com.citycare.backend.response.TechnicianIssueResponse;
+import com.citycare.backend.response.TechnicianSummaryResponse;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, Long> {
@@ -22,19 +37,155 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
 
 
 
-    // Fetch all issues for a citizen along with address and technicians
-    @Query("SELECT DISTINCT i FROM Issue i " +
-           "JOIN FETCH i.citizen c " +
-           "JOIN FETCH i.address a " +
-           "LEFT JOIN FETCH i.assignedTechnicians t " +
-           "WHERE c.id = :citizenId")
-    List<Issue> findAllByCitizenIdWithDetails(@Param("citizenId") Long citizenId);
+    // Keyset page of issues as detail rows, newest first. Null filters / cursor
+    // are ignored; images and technicians are filled in by id-keyed queries.
+    @Query("SELECT new com.citycare.backend.response.IssueDetailResponse(" +
+           "i.id, i.title, i.description, i.issueType, i.status, i.reportedAt, i.resolvedAt, " +
+           "a.name, a.streetAddress, a.locality, a.city, a.state, a.pinCode, a.latitude, a.longitude, " +
+           "COALESCE(i.upvoteCount, 0), COALESCE(i.downvoteCount, 0)) " +
+           "FROM Issue i LEFT JOIN i.address a " +
+           "WHERE (:status IS NULL OR i.status = :status) " +
+           "AND (:issueType IS NULL OR i.issueType = :issueType) " +
+           "AND (:city IS NULL OR a.city = :city) " +
+           "AND (:cursorAt IS NULL OR i.reportedAt < :cursorAt " +
+           "     OR (i.reportedAt = :cursorAt AND i.id < :cursorId)) " +
+           "ORDER BY i.reportedAt DESC, i.id DESC")
+    List<IssueDetailResponse> findDetailPage(@Param("status") IssueStatus status,
+                                             @Param("issueType") IssueType issueType,
+                                             @Param("city") String city,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Limit limit);
+
+    // A citizen's own issues as detail rows, newest first
+    @Query("SELECT new com.citycare.backend.response.IssueDetailResponse(" +
+           "i.id, i.title, i.description, i.issueType, i.status, i.reportedAt, i.resolvedAt, " +
+           "a.name, a.streetAddress, a.locality, a.city, a.state, a.pinCode, a.latitude, a.longitude, " +
+           "COALESCE(i.upvoteCount, 0), COALESCE(i.downvoteCount, 0)) " +
+           "FROM Issue i LEFT JOIN i.address a " +
+           "WHERE i.citizen.id = :citizenId ORDER BY i.reportedAt DESC, i.id DESC")
+    List<IssueDetailResponse> findDetailsByCitizenId(@Param("citizenId") Long citizenId);
+
+    // id, latitude, longitude of every located issue (spatial index warm-up)
+    @Query("SELECT i.id, a.latitude, a.longitude FROM Issue i JOIN i.address a " +
+           "WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+    List<Object[]> findAllLocations();
+
+    // id, title, description, issueType, status in id order
+    // (search index / duplicate detector warm-up, one batch at a time)
+    @Query("SELECT i.id, i.title, i.description, i.issueType, i.status FROM Issue i " +
+           "WHERE i.id > :afterId ORDER BY i.id")
+    List<Object[]> findSearchTextAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // id, issueType, status, city in id order (dashboard stats reconcile)
+    @Query("SELECT i.id, i.issueType, i.status, a.city FROM Issue i LEFT JOIN i.address a " +
+           "WHERE i.id > :afterId ORDER BY i.id")
+    List<Object[]> findStatsRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // id, issueType, city, reportedAt, resolvedAt of resolved issues in id order
+    // (resolution latency warm-up)
+    @Query("SELECT i.id, i.issueType, a.city, i.reportedAt, i.resolvedAt FROM Issue i LEFT JOIN i.address a " +
+           "WHERE i.status = com.citycare.backend.domain.IssueStatus.RESOLVED AND i.resolvedAt IS NOT NULL " +
+           "AND i.id > :afterId ORDER BY i.id")
+    List<Object[]> findResolutionRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // (issueId, technicianId) pairs for the given issues
+    @Query("SELECT i.id, t.id FROM Issue i JOIN i.assignedTechnicians t WHERE i.id IN :ids")
+    List<Object[]> findTechnicianIdsByIssueIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.id FROM Issue i WHERE i.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Issues by id with address and reporter in one round trip
+    @Query("SELECT i FROM Issue i " +
+           "LEFT JOIN FETCH i.address a " +
+           "LEFT JOIN FETCH i.citizen c " +
+           "WHERE i.id IN :ids")
+    List<Issue> findAllWithAddressByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Every issue as a flat export row, oldest first. Must be consumed inside a
+    // transaction; rows are fetched from the driver in chunks of the fetch size
+    // (on MySQL through useCursorFetch, which CursorFetchCheck enforces).
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.citycare.backend.response.IssueExportRow(" +
+           "i.id, i.title, i.description, i.issueType, i.status, i.reportedAt, i.resolvedAt, c.email, " +
+           "a.name, a.streetAddress, a.locality, a.city, a.state, a.pinCode, a.latitude, a.longitude, " +
+           "COALESCE(i.upvoteCount, 0), COALESCE(i.downvoteCount, 0)) " +
+           "FROM Issue i LEFT JOIN i.citizen c LEFT JOIN i.address a ORDER BY i.id")
+    Stream<IssueExportRow> streamExportRows();
+
+    // Same filters and order as findDetailPage over the whole table, as a forward-only
+    // cursor for the streaming public feed (must be consumed inside a transaction;
+    // fetched in chunks of the fetch size, on MySQL through useCursorFetch)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT i FROM Issue i " +
+           "LEFT JOIN FETCH i.address a " +
+           "LEFT JOIN FETCH i.citizen c " +
+           "WHERE (:status IS NULL OR i.status = :status) " +
+           "AND (:issueType IS NULL OR i.issueType = :issueType) " +
+           "AND (:city IS NULL OR a.city = :city) " +
+           "ORDER BY i.reportedAt DESC, i.id DESC")
+    Stream<Issue> streamFeed(@Param("status") IssueStatus status,
+                             @Param("issueType") IssueType issueType,
+                             @Param("city") String city);
+
+    // ---------------- READ MODEL PROJECTIONS ----------------
+
+    // Same keyset page as findPage, but as flat summary rows with vote counts
+    @Query("SELECT new com.citycare.backend.response.IssueSummaryResponse(" +
+           "i.id, i.title, i.issueType, i.status, i.reportedAt, i.resolvedAt, " +
+           "a.city, a.locality, a.latitude, a.longitude, " +
+           "COALESCE(i.upvoteCount, 0), COALESCE(i.downvoteCount, 0)) " +
+           "FROM Issue i LEFT JOIN i.address a " +
+           "WHERE (:status IS NULL OR i.status = :status) " +
+           "AND (:issueType IS NULL OR i.issueType = :issueType) " +
+           "AND (:city IS NULL OR a.city = :city) " +
+           "AND (:cursorAt IS NULL OR i.reportedAt < :cursorAt " +
+           "     OR (i.reportedAt = :cursorAt AND i.id < :cursorId)) " +
+           "ORDER BY i.reportedAt DESC, i.id DESC")
+    List<IssueSummaryResponse> findSummaryPage(@Param("status") IssueStatus status,
+                                               @Param("issueType") IssueType issueType,
+                                               @Param("city") String city,
+                                               @Param("cursorAt") LocalDateTime cursorAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Limit limit);
+
+    // Summary rows for a known set of ids (search results), in no particular order
+    @Query("SELECT new com.citycare.backend.response.IssueSummaryResponse(" +
+           "i.id, i.title, i.issueType, i.status, i.reportedAt, i.resolvedAt, " +
+           "a.city, a.locality, a.latitude, a.longitude, " +
+           "COALESCE(i.upvoteCount, 0), COALESCE(i.downvoteCount, 0)) " +
+           "FROM Issue i LEFT JOIN i.address a WHERE i.id IN :ids")
+    List<IssueSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.citycare.backend.response.IssueDetailResponse(" +
+           "i.id, i.title, i.description, i.issueType, i.status, i.reportedAt, i.resolvedAt, " +
+           "a.name, a.streetAddress, a.locality, a.city, a.state, a.pinCode, a.latitude, a.longitude, " +
+           "COALESCE(i.upvoteCount, 0), COALESCE(i.downvoteCount, 0)) " +
+           "FROM Issue i LEFT JOIN i.address a WHERE i.id = :id")
+    IssueDetailResponse findDetailById(@Param("id") Long id);
+
+    @Query("SELECT att.imageUrl FROM IssueAttachment att WHERE att.issue.id = :id")
+    List<String> findImageUrlsByIssueId(@Param("id") Long id);
+
+    // (issueId, imageUrl) pairs for the given issues
+    @Query("SELECT att.issue.id, att.imageUrl FROM IssueAttachment att WHERE att.issue.id IN :ids")
+    List<Object[]> findImageUrlsByIssueIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.citycare.backend.response.TechnicianSummaryResponse(t.id, t.name, t.phone) " +
+           "FROM Issue i JOIN i.assignedTechnicians t WHERE i.id = :id")
+    List<TechnicianSummaryResponse> findTechnicianSummariesByIssueId(@Param("id") Long id);
+
+    // (issueId, technicianId, name, phone) rows for the given issues
+    @Query("SELECT i.id, t.id, t.name, t.phone FROM Issue i JOIN i.assignedTechnicians t WHERE i.id IN :ids")
+    List<Object[]> findTechnicianSummariesByIssueIdIn(@Param("ids") Collection<Long> ids);
 
-    // Fetch all issues for a technician
-    @Query("SELECT DISTINCT i FROM Issue i " +
-           "JOIN FETCH i.assignedTechnicians t " +
-           "JOIN FETCH i.address a " +
-           "JOIN FETCH i.citizen c " +
-           "WHERE t.id = :techId")
-    List<Issue> findAllForTechnicianWithDetails(@Param("techId") Long techId);
+    @Query("SELECT new com.citycare.backend.response.TechnicianIssueResponse(" +
+           "i.id, i.title, i.description, i.issueType, i.status, i.reportedAt, " +
+           "a.streetAddress, a.locality, a.city, a.pinCode, a.latitude, a.longitude, " +
+           "c.name, a.mobile, COALESCE(i.upvoteCount, 0), COALESCE(i.downvoteCount, 0)) " +
+           "FROM Issue i JOIN i.assignedTechnicians t " +
+           "LEFT JOIN i.address a LEFT JOIN i.citizen c " +
+           "WHERE t.id = :techId ORDER BY i.reportedAt DESC, i.id DESC")
+    List<TechnicianIssueResponse> findTechnicianViewByTechnicianId(@Param("techId") Long techId);
 }
@@ -0,0 +1,72 @@
+package com.citycare.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.citycare.backend.model.Notification;
+import com.citycare.backend.response.NotificationResponse;
+
+// Every query takes exactly one of citizenId / technicianId, the other null
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // Newest first, keyset paged by id
+    @Query("SELECT new com.citycare.backend.response.NotificationResponse(" +
+           "n.id, n.message, n.timestamp, n.isRead, n.issue.id) " +
+           "FROM Notification n " +
+           "WHERE (:citizenId IS NULL OR n.citizen.id = :citizenId) " +
+           "AND (:technicianId IS NULL OR n.technician.id = :technicianId) " +
+           "AND (:unreadOnly = false OR n.isRead = false) " +
+           "AND (:cursorId IS NULL OR n.id < :cursorId) " +
+           "ORDER BY n.id DESC")
+    List<NotificationResponse> findPage(@Param("citizenId") Long citizenId,
+                                        @Param("technicianId") Long technicianId,
+                                        @Param("unreadOnly") boolean unreadOnly,
+                                        @Param("cursorId") Long cursorId,
+                                        Limit limit);
+
+    @Query("SELECT COUNT(n) FROM Notification n " +
+           "WHERE (:citizenId IS NULL OR n.citizen.id = :citizenId) " +
+           "AND (:technicianId IS NULL OR n.technician.id = :technicianId) " +
+           "AND n.isRead = false")
+    long countUnread(@Param("citizenId") Long citizenId, @Param("technicianId") Long technicianId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id " +
+           "AND (:citizenId IS NULL OR n.citizen.id = :citizenId) " +
+           "AND (:technicianId IS NULL OR n.technician.id = :technicianId) " +
+           "AND n.isRead = false")
+    int markRead(@Param("id") Long id, @Param("citizenId") Long citizenId, @Param("technicianId") Long technicianId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE (:citizenId IS NULL OR n.citizen.id = :citizenId) " +
+           "AND (:technicianId IS NULL OR n.technician.id = :technicianId) " +
+           "AND n.isRead = false")
+    int markAllRead(@Param("citizenId") Long citizenId, @Param("technicianId") Long technicianId);
+
+    // (citizenId, technicianId) of everyone with an unread notification for the issue
+    @Query("SELECT DISTINCT c.id, t.id FROM Notification n LEFT JOIN n.citizen c LEFT JOIN n.technician t " +
+           "WHERE n.issue.id = :issueId AND n.isRead = false")
+    List<Object[]> findUnreadRecipientsByIssueId(@Param("issueId") Long issueId);
+
+    // cleared before the issue / technician they point at is deleted
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.issue.id = :issueId")
+    int deleteByIssueId(@Param("issueId") Long issueId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.technician.id = :technicianId")
+    int deleteByTechnicianId(@Param("technicianId") Long technicianId);
+}
@@ -1,6 +1,9 @@
 package com.citycare.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.citycare.backend.model.Officer;
@@ -8,4 +11,8 @@ import com.citycare.backend.model.Officer;
 @Repository
 public interface OfficerRepository extends JpaRepository<Officer, Long> {
     Officer findByEmail(String email);
+
+    // id, email of every officer (user directory backfill)
+    @Query("SELECT x.id, x.email FROM Officer x")
+    List<Object[]> findAllIdAndEmail();
 }
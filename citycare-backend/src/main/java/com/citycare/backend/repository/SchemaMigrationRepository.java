@@ -0,0 +1,10 @@
+package com.citycare.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.citycare.backend.model.SchemaMigration;
+
+@Repository
+public interface SchemaMigrationRepository extends JpaRepository<SchemaMigration, String> {
+}
@@ -1,15 +1,43 @@
 package com.citycare.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.citycare.backend.model.Technician;
+import com.citycare.backend.response.TechnicianSummaryResponse;
 
 @Repository
 public interface TechnicianRepository extends JpaRepository<Technician, Long> {
     Technician findByEmail(String email);
         List<Technician> findByCreatedBy_Id(Long officerId);
 
+    // id, email of every technician (user directory backfill)
+    @Query("SELECT x.id, x.email FROM Technician x")
+    List<Object[]> findAllIdAndEmail();
+
+    // ---------------- ASSIGNMENT ENGINE ----------------
+
+    // technician id, skill
+    @Query("SELECT t.id, s FROM Technician t JOIN t.skills s")
+    List<Object[]> findAllSkills();
+
+    // technician id, latitude, longitude of technicians with an address on file
+    @Query("SELECT a.technician.id, a.latitude, a.longitude FROM Address a " +
+           "WHERE a.technician IS NOT NULL AND a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+    List<Object[]> findAllHomeLocations();
+
+    // technician id, open issue count, centre of their open issues
+    @Query("SELECT t.id, COUNT(i), AVG(a.latitude), AVG(a.longitude) " +
+           "FROM Issue i JOIN i.assignedTechnicians t LEFT JOIN i.address a " +
+           "WHERE i.status <> com.citycare.backend.domain.IssueStatus.RESOLVED GROUP BY t.id")
+    List<Object[]> findOpenLoad();
+
+    @Query("SELECT new com.citycare.backend.response.TechnicianSummaryResponse(t.id, t.name, t.phone) " +
+           "FROM Technician t WHERE t.id IN :ids")
+    List<TechnicianSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,17 @@
+package com.citycare.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.citycare.backend.model.UserDirectory;
+
+@Repository
+public interface UserDirectoryRepository extends JpaRepository<UserDirectory, Long> {
+    UserDirectory findByEmail(String email);
+
+    @Query("SELECT d.email FROM UserDirectory d")
+    List<String> findAllEmails();
+}
@@ -1,7 +1,13 @@
 package com.citycare.backend.repository;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.citycare.backend.model.VerificationCode;
 
@@ -10,5 +16,16 @@ import com.citycare.backend.model.VerificationCode;
 public interface VerificationCodeRepository extends JpaRepository<VerificationCode,Long>{
     VerificationCode findByEmail(String email);
     VerificationCode findByOtp(String otp);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM VerificationCode v WHERE v.expiryTime < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    // check-and-use in one statement: of two concurrent attempts only one deletes the row
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM VerificationCode v WHERE v.email = :email AND v.otp = :otp AND v.expiryTime > :now")
+    int consume(@Param("email") String email, @Param("otp") String otp, @Param("now") LocalDateTime now);
 }
 
@@ -1,9 +1,12 @@
 package com.citycare.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.citycare.backend.model.Vote;
 import com.citycare.backend.model.Citizen;
@@ -14,4 +17,21 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     Long countByIssueAndUpvoteTrue(Issue issue);
     Long countByIssueAndUpvoteFalse(Issue issue);
     List<Vote> findByIssue(Issue issue);
+
+    @Query("SELECT v.citizen.id FROM Vote v WHERE v.issue.id = :issueId")
+    List<Long> findCitizenIdsByIssueId(@Param("issueId") Long issueId);
+
+    // issueId, upvotes, downvotes for every issue that has votes
+    @Query("SELECT v.issue.id, " +
+           "SUM(CASE WHEN v.upvote = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN v.upvote = false THEN 1 ELSE 0 END) " +
+           "FROM Vote v GROUP BY v.issue.id")
+    List<Object[]> countVotesGroupedByIssue();
+
+    // issueId, upvotes, downvotes for the given issues (issues without votes are absent)
+    @Query("SELECT v.issue.id, " +
+           "SUM(CASE WHEN v.upvote = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN v.upvote = false THEN 1 ELSE 0 END) " +
+           "FROM Vote v WHERE v.issue.id IN :issueIds GROUP BY v.issue.id")
+    List<Object[]> countVotesByIssueIds(@Param("issueIds") Collection<Long> issueIds);
 }
@@ -0,0 +1,22 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+
+import com.citycare.backend.domain.USER_ROLE;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogResponse {
+    private Long id;
+    private String action;
+    private LocalDateTime timestamp;
+    private USER_ROLE actorRole;
+    private Long actorId;
+}
@@ -0,0 +1,20 @@
+package com.citycare.backend.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// One page of a cursor-paged listing (issues, notifications, timelines).
+// Endpoints return the items as the body and the cursor in NEXT_CURSOR_HEADER.
+@Getter
+@Setter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private List<T> items;
+    private String nextCursor; // null on the last page
+}
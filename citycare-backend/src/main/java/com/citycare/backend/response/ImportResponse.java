@@ -0,0 +1,17 @@
+package com.citycare.backend.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImportResponse {
+    private long imported;
+    private long skipped;
+    private List<String> errors = new ArrayList<>(); // first few only
+}
@@ -0,0 +1,66 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class IssueDetailResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private IssueType issueType;
+    private IssueStatus status;
+    private LocalDateTime reportedAt;
+    private LocalDateTime resolvedAt;
+
+    // Address
+    private String addressName;
+    private String streetAddress;
+    private String locality;
+    private String city;
+    private String state;
+    private String pinCode;
+    private Double latitude;
+    private Double longitude;
+
+    private Long upvotes;
+    private Long downvotes;
+
+    // filled by separate id-keyed queries
+    private List<String> imageUrls = new ArrayList<>();
+    private List<TechnicianSummaryResponse> technicians = new ArrayList<>();
+
+    // used by the constructor-expression query in IssueRepository
+    public IssueDetailResponse(Long id, String title, String description, IssueType issueType,
+            IssueStatus status, LocalDateTime reportedAt, LocalDateTime resolvedAt,
+            String addressName, String streetAddress, String locality, String city, String state,
+            String pinCode, Double latitude, Double longitude, Long upvotes, Long downvotes) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.issueType = issueType;
+        this.status = status;
+        this.reportedAt = reportedAt;
+        this.resolvedAt = resolvedAt;
+        this.addressName = addressName;
+        this.streetAddress = streetAddress;
+        this.locality = locality;
+        this.city = city;
+        this.state = state;
+        this.pinCode = pinCode;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.upvotes = upvotes;
+        this.downvotes = downvotes;
+    }
+}
@@ -0,0 +1,37 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One flat issue record for bulk export / import (CSV columns, NDJSON fields)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueExportRow {
+    private Long id;
+    private String title;
+    private String description;
+    private IssueType issueType;
+    private IssueStatus status;
+    private LocalDateTime reportedAt;
+    private LocalDateTime resolvedAt;
+    private String citizenEmail;
+    private String addressName;
+    private String streetAddress;
+    private String locality;
+    private String city;
+    private String state;
+    private String pinCode;
+    private Double latitude;
+    private Double longitude;
+    private Long upvotes;
+    private Long downvotes;
+}
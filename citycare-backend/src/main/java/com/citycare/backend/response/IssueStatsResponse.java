@@ -0,0 +1,26 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueStatsResponse {
+    private long total;
+    private Map<IssueStatus, Long> byStatus;
+    private Map<IssueType, Long> byType;
+    private Map<String, Long> byCity;
+    private Map<IssueType, Map<IssueStatus, Long>> byTypeAndStatus;
+    private Map<String, Map<IssueStatus, Long>> byCityAndStatus;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,26 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.IssueStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Payload of one event on the citizen's status stream
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueStatusUpdate {
+    private IssueEventType type;
+    private Long issueId;
+    private String title;
+    private IssueStatus status;
+    private List<Long> technicianIds;
+    private LocalDateTime at;
+}
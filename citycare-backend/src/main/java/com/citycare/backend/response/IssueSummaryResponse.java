@@ -0,0 +1,31 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Slim listing row, built straight from a constructor-expression query
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueSummaryResponse {
+    private Long id;
+    private String title;
+    private IssueType issueType;
+    private IssueStatus status;
+    private LocalDateTime reportedAt;
+    private LocalDateTime resolvedAt;
+    private String city;
+    private String locality;
+    private Double latitude;
+    private Double longitude;
+    private Long upvotes;
+    private Long downvotes;
+}
@@ -0,0 +1,20 @@
+package com.citycare.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Percentiles of report-to-resolution time, in seconds
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySummaryResponse {
+    private String key;
+    private long count;
+    private long p50Seconds;
+    private long p90Seconds;
+    private long p99Seconds;
+    private long maxSeconds;
+}
@@ -0,0 +1,20 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+    private Long id;
+    private String message;
+    private LocalDateTime timestamp;
+    private Boolean isRead;
+    private Long issueId;
+}
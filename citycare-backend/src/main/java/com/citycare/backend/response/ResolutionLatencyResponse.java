@@ -0,0 +1,19 @@
+package com.citycare.backend.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolutionLatencyResponse {
+    private LatencySummaryResponse overall;
+    private List<LatencySummaryResponse> byType;
+    private List<LatencySummaryResponse> byCity;
+    private List<LatencySummaryResponse> byTechnician;
+}
@@ -0,0 +1,35 @@
+package com.citycare.backend.response;
+
+import java.time.LocalDateTime;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// What a technician needs on the job: where it is and who reported it
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnicianIssueResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private IssueType issueType;
+    private IssueStatus status;
+    private LocalDateTime reportedAt;
+    private String streetAddress;
+    private String locality;
+    private String city;
+    private String pinCode;
+    private Double latitude;
+    private Double longitude;
+    private String reporterName;
+    private String contactMobile;
+    private Long upvotes;
+    private Long downvotes;
+}
@@ -0,0 +1,16 @@
+package com.citycare.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteCountResponse {
+    private Long issueId;
+    private Long upvotes;
+    private Long downvotes;
+}
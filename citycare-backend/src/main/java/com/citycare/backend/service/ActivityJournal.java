@@ -0,0 +1,113 @@
+package com.citycare.backend.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.repository.ActivityLogRepository;
+import com.citycare.backend.response.ActivityLogResponse;
+import com.citycare.backend.response.CursorPage;
+import com.citycare.backend.utils.CursorUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Activity journal for issues. Committed issue / vote events are buffered and
+// appended to activity_log in JDBC batches off the request path. When the
+// buffer is full the caller writes the backlog itself rather than drop entries.
+@Slf4j
+@Service
+public class ActivityJournal {
+
+    private static final String INSERT_SQL = "INSERT INTO activity_log " +
+            "(action, timestamp, issue_id, actor_role, actor_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final ActivityLogRepository activityLogRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Object[]> buffer;
+    private final int batchSize;
+    // not synchronized: flushing blocks on JDBC and would pin a virtual thread
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ActivityJournal(ActivityLogRepository activityLogRepo, JdbcTemplate jdbcTemplate,
+            @Value("${citycare.activity.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${citycare.activity.batch-size:500}") int batchSize) {
+        this.activityLogRepo = activityLogRepo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new LinkedBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    // ---------------- APPEND ----------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        Object[] row = { describe(event), Timestamp.valueOf(event.at()), event.issueId(),
+                event.actorRole() == null ? null : event.actorRole().name(), event.actorId() };
+        while (!buffer.offer(row)) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${citycare.activity.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            while (buffer.drainTo(rows, batchSize) > 0) {
+                try {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                } catch (RuntimeException e) {
+                    log.error("Failed to append {} activity log entries", rows.size(), e);
+                }
+                rows.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static String describe(IssueEvent event) {
+        return switch (event.type()) {
+            case CREATED -> "Issue reported";
+            case ASSIGNED -> event.technicianIds().isEmpty() ? "Technicians unassigned"
+                    : "Assigned technicians " + event.technicianIds();
+            case STATUS_CHANGED -> "Status changed to " + event.status();
+            case DELETED -> "Issue deleted";
+            case VOTED -> "Vote cast";
+            case VOTE_REMOVED -> "Vote removed";
+        };
+    }
+
+    // ---------------- READ ----------------
+    public CursorPage<ActivityLogResponse> getTimeline(Long issueId, String cursor, Integer size) throws Exception {
+        int pageSize = CursorUtil.pageSize(size);
+        Long cursorId;
+        try {
+            cursorId = cursor == null || cursor.isEmpty() ? null : Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new Exception("Invalid cursor");
+        }
+
+        List<ActivityLogResponse> rows = activityLogRepo.findTimeline(issueId, cursorId, Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize)
+            return new CursorPage<>(rows, null);
+        List<ActivityLogResponse> page = rows.subList(0, pageSize);
+        return new CursorPage<>(page, String.valueOf(page.get(pageSize - 1).getId()));
+    }
+}
@@ -1,6 +1,6 @@
 package com.citycare.backend.service;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -17,48 +17,41 @@ import org.springframework.stereotype.Service;
 
 import com.citycare.backend.domain.USER_ROLE;
 import com.citycare.backend.model.Citizen;
-import com.citycare.backend.model.Officer;
-import com.citycare.backend.model.Head;
-import com.citycare.backend.model.Technician;
-import com.citycare.backend.model.VerificationCode;
 import com.citycare.backend.repository.CitizenRepository;
-import com.citycare.backend.repository.OfficerRepository;
-import com.citycare.backend.repository.HeadRepository;
-import com.citycare.backend.repository.TechnicianRepository;
-import com.citycare.backend.repository.VerificationCodeRepository;
 import com.citycare.backend.config.JwtProvider;
 import com.citycare.backend.utils.OtpUtil;
 import com.citycare.backend.request.LoginRequest;
 import com.citycare.backend.request.SignupRequest;
 import com.citycare.backend.response.AuthResponse;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed("citycare.service")
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final Duration OTP_TTL = Duration.ofMinutes(5);
+
     private final CitizenRepository citizenRepo;
-    private final TechnicianRepository technicianRepo;
-    private final OfficerRepository officerRepo;
-    private final HeadRepository headRepo;
-    private final VerificationCodeRepository verificationRepo;
+    private final OtpStore otpStore;
     private final JwtProvider jwtProvider;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final UserDirectoryService userDirectory;
 
     // ----------------- SIGNUP (CITIZEN) -----------------
     public AuthResponse signUp(SignupRequest req) throws Exception {
-        VerificationCode vc = verificationRepo.findByEmail(req.getEmail());
-        if (vc == null || !vc.getOtp().equals(req.getOtp())) {
-            throw new Exception("Invalid OTP");
-        }
-
         Citizen existing = citizenRepo.findByEmail(req.getEmail());
         if (existing != null) {
             throw new Exception("Citizen already exists");
         }
 
+        if (!otpStore.consume(req.getEmail(), req.getOtp())) {
+            throw new Exception("Invalid OTP");
+        }
+
         Citizen citizen = new Citizen();
         citizen.setName(req.getName());
         citizen.setEmail(req.getEmail());
@@ -66,6 +59,7 @@ public class AuthService {
         citizen.setPhone(req.getPhone());
         citizen.setRole(USER_ROLE.ROLE_CITIZEN);
         citizenRepo.save(citizen);
+        userDirectory.register(citizen.getEmail(), USER_ROLE.ROLE_CITIZEN, citizen.getId());
 
         // generate JWT
         List<GrantedAuthority> authorities = new ArrayList<>();
@@ -112,8 +106,7 @@ public class AuthService {
     }
 
     private Authentication authenticateWithOtp(String email, String otp) throws Exception {
-        VerificationCode vc = verificationRepo.findByEmail(email);
-        if (vc == null || !vc.getOtp().equals(otp)) {
+        if (!otpStore.consume(email, otp)) {
             throw new Exception("Invalid OTP");
         }
 
@@ -122,7 +115,7 @@ public class AuthService {
         if (user == null)
             throw new BadCredentialsException("User not found");
 
-        USER_ROLE role = getRole(user);
+        USER_ROLE role = userDirectory.roleOf(user);
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(role.toString()));
         return new UsernamePasswordAuthenticationToken(email, null, authorities);
@@ -133,12 +126,12 @@ public class AuthService {
         if (user == null)
             throw new BadCredentialsException("User not found");
 
-        String dbPassword = getPassword(user);
+        String dbPassword = userDirectory.passwordOf(user);
         if (!passwordEncoder.matches(password, dbPassword)) {
             throw new BadCredentialsException("Invalid password");
         }
 
-        USER_ROLE role = getRole(user);
+        USER_ROLE role = userDirectory.roleOf(user);
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(role.toString()));
         return new UsernamePasswordAuthenticationToken(email, null, authorities);
@@ -146,16 +139,8 @@ public class AuthService {
 
     // ----------------- SEND LOGIN OTP -----------------
     public void sendLoginOtp(String email, USER_ROLE role) throws Exception {
-        VerificationCode existing = verificationRepo.findByEmail(email);
-        if (existing != null)
-            verificationRepo.delete(existing);
-
         String otp = OtpUtil.generateOtp();
-        VerificationCode vc = new VerificationCode();
-        vc.setEmail(email);
-        vc.setOtp(otp);
-        vc.setExpiryTime(LocalDateTime.now().plusMinutes(5));
-        verificationRepo.save(vc);
+        otpStore.put(email, otp, OTP_TTL);
 
         // send email logic (implement your EmailService)
 
@@ -174,38 +159,6 @@ public class AuthService {
 
     // ----------------- HELPERS -----------------
     private Object findUserByEmail(String email) {
-        if ((citizenRepo.findByEmail(email)) != null)
-            return citizenRepo.findByEmail(email);
-        if ((technicianRepo.findByEmail(email)) != null)
-            return technicianRepo.findByEmail(email);
-        if ((officerRepo.findByEmail(email)) != null)
-            return officerRepo.findByEmail(email);
-        if ((headRepo.findByEmail(email)) != null)
-            return headRepo.findByEmail(email);
-        return null;
-    }
-
-    private String getPassword(Object user) {
-        if (user instanceof Citizen)
-            return ((Citizen) user).getPassword();
-        if (user instanceof Technician)
-            return ((Technician) user).getPassword();
-        if (user instanceof Officer)
-            return ((Officer) user).getPassword();
-        if (user instanceof Head)
-            return ((Head) user).getPassword();
-        return null;
-    }
-
-    private USER_ROLE getRole(Object user) {
-        if (user instanceof Citizen)
-            return USER_ROLE.ROLE_CITIZEN;
-        if (user instanceof Technician)
-            return USER_ROLE.ROLE_TECHNICIAN;
-        if (user instanceof Officer)
-            return USER_ROLE.ROLE_OFFICER;
-        if (user instanceof Head)
-            return USER_ROLE.ROLE_HEAD;
-        return null;
+        return userDirectory.findUserByEmail(email, null);
     }
 }
@@ -0,0 +1,49 @@
+package com.citycare.backend.service;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+@ConditionalOnProperty(name = "citycare.email.transport", havingValue = "brevo", matchIfMissing = true)
+public class BrevoEmailTransport implements EmailTransport {
+
+    @Value("${BREVO_API_KEY}")
+    private String apiKey;
+
+    private final RestTemplate restTemplate;
+
+    // bounded, so a hung provider call frees its sender instead of holding the dispatch run
+    public BrevoEmailTransport(RestTemplateBuilder builder,
+            @Value("${citycare.email.connect-timeout-ms:5000}") long connectTimeoutMillis,
+            @Value("${citycare.email.read-timeout-ms:10000}") long readTimeoutMillis) {
+        this.restTemplate = builder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .build();
+    }
+
+    @Override
+    public void send(String recipient, String subject, String htmlContent) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("api-key", apiKey);
+
+        Map<String, Object> body = Map.of(
+                "sender", Map.of("name", "City Care", "email", "harshaupputuri123@gmail.com"),
+                "to", new Map[] { Map.of("email", recipient) },
+                "subject", subject,
+                "htmlContent", htmlContent);
+
+        restTemplate.postForEntity("https://api.brevo.com/v3/smtp/email", new HttpEntity<>(body, headers),
+                String.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.citycare.backend.service;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.citycare.backend.domain.USER_ROLE;
 import com.citycare.backend.model.Address;
 import com.citycare.backend.model.Citizen;
 import com.citycare.backend.repository.AddressRepository;
@@ -18,9 +19,13 @@ public class CitizenService {
     private final CitizenRepository citizenRepo;
     private final AddressRepository addressRepo;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final UserDirectoryService userDirectory;
 
     // ---------------- UPDATE CITIZEN PROFILE ----------------
     public void updateCitizenProfile( CitizenUpdateDto req, Citizen curr) throws Exception {
+        principalCache.invalidate(curr.getEmail());
+        String oldEmail = curr.getEmail();
 
         if (req.getName() != null) curr.setName(req.getName());
         if (req.getEmail() != null) curr.setEmail(req.getEmail());
@@ -48,6 +53,7 @@ public class CitizenService {
         }
 
         citizenRepo.save(curr);
+        userDirectory.changeEmail(oldEmail, curr.getEmail(), USER_ROLE.ROLE_CITIZEN, curr.getId());
     }
 
     // ---------------- UPDATE PASSWORD ----------------
@@ -11,14 +11,6 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.citycare.backend.domain.USER_ROLE;
-import com.citycare.backend.model.Citizen;
-import com.citycare.backend.model.Technician;
-import com.citycare.backend.model.Officer;
-import com.citycare.backend.model.Head;
-import com.citycare.backend.repository.CitizenRepository;
-import com.citycare.backend.repository.TechnicianRepository;
-import com.citycare.backend.repository.OfficerRepository;
-import com.citycare.backend.repository.HeadRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,10 +18,7 @@ import lombok.RequiredArgsConstructor;
 @Service
 public class CustomerUserService implements UserDetailsService {
 
-    private final CitizenRepository citizenRepository;
-    private final TechnicianRepository technicianRepository;
-    private final OfficerRepository officerRepository;
-    private final HeadRepository headRepository;
+    private final UserDirectoryService userDirectory;
 
     private static final String TECHNICIAN_PREFIX = "tech_";
     private static final String OFFICER_PREFIX = "off_";
@@ -38,30 +27,23 @@ public class CustomerUserService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
+        // Prefixes are still accepted and pin the expected role
+        USER_ROLE expectedRole = USER_ROLE.ROLE_CITIZEN;
+        String email = username;
         if (username.startsWith(TECHNICIAN_PREFIX)) {
-            String actualUsername = username.substring(TECHNICIAN_PREFIX.length());
-            Technician tech = technicianRepository.findByEmail(actualUsername);
-            if (tech != null) {
-                return buildUserDetails(tech.getEmail(), tech.getPassword(), tech.getRole());
-            }
+            expectedRole = USER_ROLE.ROLE_TECHNICIAN;
+            email = username.substring(TECHNICIAN_PREFIX.length());
         } else if (username.startsWith(OFFICER_PREFIX)) {
-            String actualUsername = username.substring(OFFICER_PREFIX.length());
-            Officer officer = officerRepository.findByEmail(actualUsername);
-            if (officer != null) {
-                return buildUserDetails(officer.getEmail(), officer.getPassword(), officer.getRole());
-            }
+            expectedRole = USER_ROLE.ROLE_OFFICER;
+            email = username.substring(OFFICER_PREFIX.length());
         } else if (username.startsWith(HEAD_PREFIX)) {
-            String actualUsername = username.substring(HEAD_PREFIX.length());
-            Head head = headRepository.findByEmail(actualUsername);
-            if (head != null) {
-                return buildUserDetails(head.getEmail(), head.getPassword(), head.getRole());
-            }
-        } else {
-            // Default: Citizen
-            Citizen citizen = citizenRepository.findByEmail(username);
-            if (citizen != null) {
-                return buildUserDetails(citizen.getEmail(), citizen.getPassword(), citizen.getRole());
-            }
+            expectedRole = USER_ROLE.ROLE_HEAD;
+            email = username.substring(HEAD_PREFIX.length());
+        }
+
+        Object user = userDirectory.findUserByEmailInRole(email, expectedRole);
+        if (user != null) {
+            return buildUserDetails(userDirectory.emailOf(user), userDirectory.passwordOf(user), expectedRole);
         }
 
         throw new UsernameNotFoundException("User not found with email: " + username);
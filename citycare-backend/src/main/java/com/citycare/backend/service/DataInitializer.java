@@ -15,6 +15,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private final HeadRepository headRepo;
     private final PasswordEncoder passwordEncoder;
+    private final UserDirectoryService userDirectory;
 
     @Override
     public void run(String... args) throws Exception {
@@ -26,6 +27,7 @@ public class DataInitializer implements CommandLineRunner {
             head.setPassword(passwordEncoder.encode("harshaupputuri"));
             head.setRole(USER_ROLE.ROLE_HEAD);
             headRepo.save(head);
+            userDirectory.register(head.getEmail(), USER_ROLE.ROLE_HEAD, head.getId());
         }
     }
 }
@@ -0,0 +1,141 @@
+package com.citycare.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.citycare.backend.domain.EmailStatus;
+import com.citycare.backend.model.EmailOutbox;
+import com.citycare.backend.repository.EmailOutboxRepository;
+import com.citycare.backend.utils.ThreadFactories;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Drains the email outbox in the background: a batch of due mails per tick,
+// sent with at most `concurrency` in flight, retried with exponential back-off.
+// Each batch is claimed first, so several nodes never send the same mail.
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository outboxRepo;
+    private final EmailTransport transport;
+    private final ExecutorService senders;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffSeconds;
+    private final long claimLeaseSeconds;
+
+    // citycare.email.sends by outcome, plus transport latency
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer sendTimer;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository outboxRepo, EmailTransport transport, MeterRegistry registry,
+            @Value("${citycare.email.concurrency:4}") int concurrency,
+            @Value("${citycare.email.batch-size:50}") int batchSize,
+            @Value("${citycare.email.max-attempts:6}") int maxAttempts,
+            @Value("${citycare.email.backoff-seconds:5}") long baseBackoffSeconds,
+            @Value("${citycare.email.claim-lease-seconds:300}") long claimLeaseSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxRepo = outboxRepo;
+        this.transport = transport;
+        this.senders = Executors.newFixedThreadPool(concurrency, ThreadFactories.named("email-sender-", virtualThreads));
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.claimLeaseSeconds = claimLeaseSeconds;
+        this.sent = sends(registry, "sent");
+        this.retried = sends(registry, "retry");
+        this.failed = sends(registry, "failed");
+        this.sendTimer = Timer.builder("citycare.email.transport")
+                .description("Time spent in the email transport per attempt")
+                .register(registry);
+    }
+
+    private static Counter sends(MeterRegistry registry, String outcome) {
+        return Counter.builder("citycare.email.sends")
+                .description("Email send attempts, by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${citycare.email.dispatch-interval-ms:1000}")
+    public void dispatch() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> candidates = outboxRepo.findDue(now, Limit.of(batchSize));
+        if (candidates.isEmpty())
+            return;
+
+        // only the rows this run managed to claim; the rest went to another node
+        List<Long> ids = new ArrayList<>(candidates.size());
+        for (EmailOutbox mail : candidates) {
+            ids.add(mail.getId());
+        }
+        String token = UUID.randomUUID().toString();
+        if (outboxRepo.claim(ids, token, now, now.plusSeconds(claimLeaseSeconds)) == 0)
+            return;
+        List<EmailOutbox> due = outboxRepo.findByClaimToken(token);
+
+        // each mail is saved as soon as its attempt ends, so a sent mail's content is
+        // cleared right away rather than after the slowest mail of the batch
+        List<Callable<Void>> sends = new ArrayList<>(due.size());
+        for (EmailOutbox mail : due) {
+            sends.add(() -> {
+                send(mail);
+                outboxRepo.save(mail);
+                return null;
+            });
+        }
+        senders.invokeAll(sends);
+    }
+
+    private void send(EmailOutbox mail) {
+        mail.setClaimToken(null);
+        mail.setAttempts(mail.getAttempts() + 1);
+        Timer.Sample sample = Timer.start();
+        try {
+            transport.send(mail.getRecipient(), mail.getSubject(), mail.getHtmlContent());
+            sample.stop(sendTimer);
+            sent.increment();
+            mail.setStatus(EmailStatus.SENT);
+            mail.setSentAt(LocalDateTime.now());
+            mail.setHtmlContent(null);
+            mail.setLastError(null);
+        } catch (Exception e) {
+            sample.stop(sendTimer);
+            String error = String.valueOf(e.getMessage());
+            mail.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+            if (mail.getAttempts() >= maxAttempts) {
+                failed.increment();
+                mail.setStatus(EmailStatus.FAILED);
+                mail.setHtmlContent(null);
+                log.warn("Giving up on email {} to {} after {} attempts: {}", mail.getId(), mail.getRecipient(),
+                        mail.getAttempts(), error);
+            } else {
+                retried.increment();
+                long delay = baseBackoffSeconds << (mail.getAttempts() - 1); // 5s, 10s, 20s, ...
+                mail.setNextAttemptAt(LocalDateTime.now().plusSeconds(delay));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+}
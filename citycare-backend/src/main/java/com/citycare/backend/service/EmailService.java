@@ -1,52 +1,27 @@
 package com.citycare.backend.service;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Map;
+import com.citycare.backend.model.EmailOutbox;
+import com.citycare.backend.repository.EmailOutboxRepository;
 
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+// Mails are written to the outbox and sent by EmailOutboxDispatcher, so a slow
+// or failing provider never holds up the request thread.
 @Service
+@Timed("citycare.service")
+@RequiredArgsConstructor
 public class EmailService {
-    @Value("${BREVO_API_KEY}")
-    private String apiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final EmailOutboxRepository outboxRepo;
 
     public void sendVerificationOtpEmail(String userEmail, String otp, String subject, String text) {
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("api-key", apiKey);
-
-        Map<String, Object> body = Map.of(
-                "sender", Map.of("name", "City Care", "email", "harshaupputuri123@gmail.com"),
-                "to", new Map[] { Map.of("email", userEmail) },
-                "subject", subject,
-                "htmlContent", text + "<br><b>OTP:</b> " + otp);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    "https://api.brevo.com/v3/smtp/email",
-                    entity,
-                    String.class);
-            System.out.println("Email sent: " + response.getStatusCode());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to send email: " + e.getMessage(), e);
-        }
+        enqueue(userEmail, subject, text + "<br><b>OTP:</b> " + otp);
     }
 
     public void sendLoginCredentialsEmail(String userEmail, String password, String role) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("api-key", apiKey);
-
         String subject = "Your City Care Account Credentials";
         String text = "Dear " + role + ",<br><br>"
                 + "Your account has been created successfully.<br>"
@@ -55,23 +30,15 @@ public class EmailService {
                 + "Please change your password after your first login.<br><br>"
                 + "Best Regards,<br>City Care Team";
 
-        Map<String, Object> body = Map.of(
-                "sender", Map.of("name", "City Care", "email", "harshaupputuri123@gmail.com"),
-                "to", new Map[] { Map.of("email", userEmail) },
-                "subject", subject,
-                "htmlContent", text);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+        enqueue(userEmail, subject, text);
+    }
 
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    "https://api.brevo.com/v3/smtp/email",
-                    entity,
-                    String.class);
-            System.out.println("Credentials email sent: " + response.getStatusCode());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to send credentials email: " + e.getMessage(), e);
-        }
+    private void enqueue(String recipient, String subject, String htmlContent) {
+        EmailOutbox mail = new EmailOutbox();
+        mail.setRecipient(recipient);
+        mail.setSubject(subject);
+        mail.setHtmlContent(htmlContent);
+        outboxRepo.save(mail);
     }
 
 }
@@ -82,4 +49,4 @@ public class EmailService {
 // mimeMessageHelper.setSubject(subject);
 // mimeMessageHelper.setText(text);
 // mimeMessageHelper.setTo(userEmail);
-// javaMailSender.send(mimeMessage);
\ No newline at end of file
+// javaMailSender.send(mimeMessage);
@@ -0,0 +1,6 @@
+package com.citycare.backend.service;
+
+// How an outbox mail actually leaves the application
+public interface EmailTransport {
+    void send(String recipient, String subject, String htmlContent) throws Exception;
+}
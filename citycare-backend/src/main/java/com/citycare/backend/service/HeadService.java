@@ -23,6 +23,8 @@ public class HeadService {
     private final OfficerRepository officerRepo;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final PrincipalCache principalCache;
+    private final UserDirectoryService userDirectory;
 
     // ---------------- CREATE OFFICER ----------------
     public Officer createOfficer(Long headId, OfficerRequest req) throws Exception {
@@ -41,6 +43,7 @@ public class HeadService {
         officer.setCreatedTechnicians(new HashSet<>());
 
         Officer savedOfficer = officerRepo.save(officer);
+        userDirectory.register(savedOfficer.getEmail(), USER_ROLE.ROLE_OFFICER, savedOfficer.getId());
 
         // Link officer to head
         head.getManagedOfficers().add(savedOfficer);
@@ -62,6 +65,8 @@ public class HeadService {
         Officer officer = officerRepo.findById(officerId)
                 .orElseThrow(() -> new Exception("Officer not found"));
         officerRepo.delete(officer);
+        principalCache.invalidate(officer.getEmail());
+        userDirectory.remove(officer.getEmail(), USER_ROLE.ROLE_OFFICER, officer.getId());
     }
 
     // ---------------- FETCH HEAD INFO ----------------
@@ -74,12 +79,16 @@ public class HeadService {
     public Head updateHead(Long headId, Head req) throws Exception {
         Head head = headRepo.findById(headId)
                 .orElseThrow(() -> new Exception("Head not found"));
+        principalCache.invalidate(head.getEmail());
+        String oldEmail = head.getEmail();
 
         if (req.getName() != null) head.setName(req.getName());
         if (req.getEmail() != null) head.setEmail(req.getEmail());
         if (req.getPhone() != null) head.setPhone(req.getPhone());
 
-        return headRepo.save(head);
+        Head saved = headRepo.save(head);
+        userDirectory.changeEmail(oldEmail, saved.getEmail(), USER_ROLE.ROLE_HEAD, saved.getId());
+        return saved;
     }
 
     // ---------------- UPDATE PASSWORD ----------------
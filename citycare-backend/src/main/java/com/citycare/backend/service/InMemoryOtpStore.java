@@ -0,0 +1,50 @@
+package com.citycare.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.citycare.backend.utils.TimingWheel;
+
+// Single-node OTP store: codes in a concurrent map, evicted by a timing wheel
+@Component
+@ConditionalOnProperty(name = "citycare.otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final long TICK_MILLIS = 1000;
+
+    private record Code(String otp, long expiresAt) {
+    }
+
+    private final Map<String, Code> codes = new ConcurrentHashMap<>();
+    private final TimingWheel wheel = new TimingWheel(512, TICK_MILLIS);
+
+    @Override
+    public void put(String email, String otp, Duration ttl) {
+        Code code = new Code(otp, System.currentTimeMillis() + ttl.toMillis());
+        codes.put(email, code);
+        // removes only this code, not a newer one issued for the same email
+        wheel.schedule(() -> codes.remove(email, code), ttl.toMillis());
+    }
+
+    @Override
+    public boolean consume(String email, String otp) {
+        Code code = codes.get(email);
+        if (code == null || otp == null || code.expiresAt() < System.currentTimeMillis())
+            return false;
+        if (!MessageDigest.isEqual(code.otp().getBytes(StandardCharsets.UTF_8), otp.getBytes(StandardCharsets.UTF_8)))
+            return false;
+        return codes.remove(email, code);
+    }
+
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void expire() {
+        wheel.tick();
+    }
+}
@@ -0,0 +1,187 @@
+package com.citycare.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.IssueRepository;
+
+// Near-duplicate lookup for new issues: an open issue of the same type within
+// radius-meters (via the spatial index) whose title + description is similar,
+// estimated by MinHash over character 4-gram shingles. Keeps one small
+// signature per issue in memory; a check touches only the nearby cells.
+@Component
+public class IssueDuplicateDetector {
+
+    private static final int LOAD_BATCH = 1000;
+    private static final int NUM_HASHES = 64;
+    private static final int SHINGLE = 4;
+    private static final int MAX_TEXT = 1000; // chars used per issue
+    private static final int MAX_NEARBY = 64; // same-type open issues compared per check
+    private static final long[] SEEDS = new long[NUM_HASHES];
+
+    static {
+        long x = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            x = mix(x + i);
+            SEEDS[i] = x;
+        }
+    }
+
+    private record Entry(IssueType type, int[] signature) {
+    }
+
+    private record Match(long id, double score) {
+    }
+
+    private final IssueRepository issueRepo;
+    private final IssueSpatialIndex spatialIndex;
+    private final double radiusMeters;
+    private final double threshold;
+
+    // open issues only; resolved ones are removed
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public IssueDuplicateDetector(IssueRepository issueRepo, IssueSpatialIndex spatialIndex,
+            @Value("${citycare.duplicates.radius-meters:150}") double radiusMeters,
+            @Value("${citycare.duplicates.similarity-threshold:0.35}") double threshold) {
+        this.issueRepo = issueRepo;
+        this.spatialIndex = spatialIndex;
+        this.radiusMeters = radiusMeters;
+        this.threshold = threshold;
+    }
+
+    // ---------------- LOAD ON STARTUP ----------------
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        entries.clear();
+        Long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = issueRepo.findSearchTextAfter(afterId, Limit.of(LOAD_BATCH));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                if (row[4] != IssueStatus.RESOLVED)
+                    add(afterId, (IssueType) row[3], (String) row[1], (String) row[2]);
+            }
+        } while (rows.size() == LOAD_BATCH);
+    }
+
+    // after commit, so a rolled-back create is never offered as a duplicate
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.type() == IssueEventType.DELETED
+                || event.type() == IssueEventType.STATUS_CHANGED && event.status() == IssueStatus.RESOLVED) {
+            remove(event.issueId());
+        } else if (event.type() == IssueEventType.CREATED && event.status() != IssueStatus.RESOLVED
+                || event.type() == IssueEventType.STATUS_CHANGED && !entries.containsKey(event.issueId())) {
+            add(event.issueId(), event.issueType(), event.title(), event.description()); // new or reopened
+        }
+    }
+
+    public void add(Long issueId, IssueType type, String title, String description) {
+        if (issueId == null || type == null)
+            return;
+        int[] sig = signature(title, description);
+        if (sig == null)
+            entries.remove(issueId); // no text, nothing to compare
+        else
+            entries.put(issueId, new Entry(type, sig));
+    }
+
+    public void remove(Long issueId) {
+        entries.remove(issueId);
+    }
+
+    // ---------------- LOOKUP ----------------
+    // Open issues likely describing the same problem, most likely first
+    public List<Long> findDuplicates(IssueType type, Double lat, Double lon, String title, String description,
+            int limit) {
+        if (type == null || lat == null || lon == null)
+            return List.of();
+        int[] sig = signature(title, description);
+        if (sig == null)
+            return List.of();
+        // open issues of the same type only, so other types nearby do not use up MAX_NEARBY
+        List<IssueSpatialIndex.Hit> nearby = spatialIndex.findNearby(lat, lon, radiusMeters, MAX_NEARBY, id -> {
+            Entry e = entries.get(id);
+            return e != null && e.type() == type;
+        });
+        if (nearby.isEmpty())
+            return List.of();
+
+        List<Match> matches = new ArrayList<>();
+        for (IssueSpatialIndex.Hit hit : nearby) {
+            Entry e = entries.get(hit.id());
+            if (e == null)
+                continue;
+            double similarity = similarity(sig, e.signature());
+            if (similarity < threshold)
+                continue;
+            // text similarity dominates; distance breaks near-ties
+            matches.add(new Match(hit.id(), similarity - 0.2 * hit.distanceMeters() / radiusMeters));
+        }
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+
+        List<Long> ids = new ArrayList<>(Math.min(matches.size(), limit));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            ids.add(matches.get(i).id());
+        }
+        return ids;
+    }
+
+    // ---------------- MINHASH ----------------
+    // null when there is no text: an empty shingle set would match every other
+    // empty one with similarity 1.0
+    static int[] signature(String title, String description) {
+        String text = String.join(" ", IssueSearchIndex.tokenize(
+                (title == null ? "" : title) + " " + (description == null ? "" : description)));
+        if (text.length() > MAX_TEXT)
+            text = text.substring(0, MAX_TEXT);
+
+        if (text.isEmpty())
+            return null;
+        int[] sig = new int[NUM_HASHES];
+        Arrays.fill(sig, Integer.MAX_VALUE);
+        int shingles = Math.max(text.length() - SHINGLE + 1, 1);
+        for (int s = 0; s < shingles; s++) {
+            long h = text.substring(s, Math.min(s + SHINGLE, text.length())).hashCode();
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int v = (int) mix(h ^ SEEDS[i]);
+                if (v < sig[i])
+                    sig[i] = v;
+            }
+        }
+        return sig;
+    }
+
+    // estimated Jaccard similarity of the two shingle sets
+    static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i])
+                same++;
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
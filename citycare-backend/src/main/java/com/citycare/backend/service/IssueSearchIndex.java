@@ -0,0 +1,176 @@
+package com.citycare.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.repository.IssueRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// In-memory inverted index over issue title + description. Query terms match
+// as prefixes ("pot" finds "pothole"); every term must match, results are
+// ranked by tf-idf with title hits weighted above description hits.
+@Component
+@RequiredArgsConstructor
+public class IssueSearchIndex {
+
+    private static final int LOAD_BATCH = 1000;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final double PREFIX_PENALTY = 0.5;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "this", "to", "was", "with");
+
+    private final IssueRepository issueRepo;
+
+    // term -> (issueId -> weighted term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    // sorted dictionary for prefix lookups
+    private final NavigableSet<String> terms = new ConcurrentSkipListSet<>();
+    // issueId -> its terms, so a delete only touches its own postings
+    private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+
+    // ---------------- LOAD ON STARTUP ----------------
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        postings.clear();
+        terms.clear();
+        documents.clear();
+        Long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = issueRepo.findSearchTextAfter(afterId, Limit.of(LOAD_BATCH));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                add(afterId, (String) row[1], (String) row[2]);
+            }
+        } while (rows.size() == LOAD_BATCH);
+    }
+
+    // after commit, so a rolled-back create never becomes searchable
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.type() == IssueEventType.CREATED)
+            add(event.issueId(), event.title(), event.description());
+        else if (event.type() == IssueEventType.DELETED)
+            remove(event.issueId());
+    }
+
+    public void add(Long issueId, String title, String description) {
+        if (issueId == null)
+            return;
+        remove(issueId);
+
+        Map<String, Integer> freq = new HashMap<>();
+        for (String token : tokenize(title)) {
+            freq.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(description)) {
+            freq.merge(token, 1, Integer::sum);
+        }
+        if (freq.isEmpty())
+            return;
+
+        documents.put(issueId, freq.keySet());
+        freq.forEach((term, tf) -> {
+            postings.compute(term, (t, docs) -> {
+                if (docs == null) {
+                    docs = new ConcurrentHashMap<>();
+                    terms.add(t);
+                }
+                docs.put(issueId, tf);
+                return docs;
+            });
+        });
+    }
+
+    public void remove(Long issueId) {
+        Set<String> docTerms = documents.remove(issueId);
+        if (docTerms == null)
+            return;
+        for (String term : docTerms) {
+            postings.computeIfPresent(term, (t, docs) -> {
+                docs.remove(issueId);
+                if (!docs.isEmpty())
+                    return docs;
+                terms.remove(t);
+                return null;
+            });
+        }
+    }
+
+    // Ids of issues matching every query term, best match first
+    public List<Long> search(String query) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty())
+            return List.of();
+
+        int totalDocs = Math.max(documents.size(), 1);
+        Map<Long, Double> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<Long, Double> termScores = new HashMap<>();
+            for (String term : terms.subSet(queryTerm, true, queryTerm + Character.MAX_VALUE, false)) {
+                Map<Long, Integer> docs = postings.get(term);
+                if (docs == null || docs.isEmpty())
+                    continue;
+                double idf = Math.log(1 + (double) totalDocs / docs.size());
+                double weight = term.equals(queryTerm) ? idf : idf * PREFIX_PENALTY;
+                for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+                    if (scores == null || scores.containsKey(doc.getKey()))
+                        termScores.merge(doc.getKey(), doc.getValue() * weight, Math::max);
+                }
+            }
+            Map<Long, Double> previous = scores;
+            if (previous != null)
+                termScores.replaceAll((id, score) -> score + previous.get(id));
+            scores = termScores;
+            if (scores.isEmpty())
+                return List.of();
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        // ties go to the newer issue
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Double> e : ranked) {
+            ids.add(e.getKey());
+        }
+        return ids;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null)
+            return tokens;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                String token = text.substring(start, i).toLowerCase();
+                if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token))
+                    tokens.add(token);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
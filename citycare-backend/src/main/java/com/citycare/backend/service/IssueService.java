@@ -1,42 +1,173 @@
 package com.citycare.backend.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.IssueResolvedEvent;
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.domain.USER_ROLE;
+import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Head;
 import com.citycare.backend.model.Issue;
+import com.citycare.backend.model.Officer;
 import com.citycare.backend.model.Technician;
 import com.citycare.backend.repository.IssueRepository;
 import com.citycare.backend.repository.TechnicianRepository;
+import com.citycare.backend.response.CursorPage;
+import com.citycare.backend.response.IssueDetailResponse;
+import com.citycare.backend.response.IssueSummaryResponse;
+import com.citycare.backend.response.TechnicianIssueResponse;
+import com.citycare.backend.response.TechnicianSummaryResponse;
+import com.citycare.backend.response.VoteCountResponse;
+import com.citycare.backend.utils.CursorUtil;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 
 @Service
+@Timed("citycare.service")
 public class IssueService {
 
+    public static final double DEFAULT_RADIUS_METERS = 1000;
+    public static final double MAX_RADIUS_METERS = 50_000;
+    public static final int MAX_DUPLICATES = 5;
+    public static final int FEED_CHUNK_SIZE = 100;
+
     private final IssueRepository issueRepo;
     private final TechnicianRepository techRepo;
+    private final IssueSpatialIndex spatialIndex;
+    private final VoteCounter voteCounter;
+    private final IssueSearchIndex searchIndex;
+    private final TechnicianAssignmentEngine assignmentEngine;
+    private final NotificationService notificationService;
+    private final IssueDuplicateDetector duplicateDetector;
+    private final VoteService voteService;
+    private final ApplicationEventPublisher events;
+    private final boolean autoAssign;
+    private final String duplicateMode;
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter feedWriter;
+
+    @PersistenceContext
+    private EntityManager em;
 
-    public IssueService(IssueRepository issueRepo, TechnicianRepository techRepo) {
+    public IssueService(IssueRepository issueRepo, TechnicianRepository techRepo, IssueSpatialIndex spatialIndex,
+            VoteCounter voteCounter, IssueSearchIndex searchIndex, TechnicianAssignmentEngine assignmentEngine,
+            NotificationService notificationService, IssueDuplicateDetector duplicateDetector,
+            VoteService voteService, ApplicationEventPublisher events, ObjectMapper objectMapper,
+            @Value("${citycare.assignment.auto-assign:false}") boolean autoAssign,
+            @Value("${citycare.duplicates.mode:suggest}") String duplicateMode) {
         this.issueRepo = issueRepo;
         this.techRepo = techRepo;
+        this.spatialIndex = spatialIndex;
+        this.voteCounter = voteCounter;
+        this.searchIndex = searchIndex;
+        this.assignmentEngine = assignmentEngine;
+        this.notificationService = notificationService;
+        this.duplicateDetector = duplicateDetector;
+        this.voteService = voteService;
+        this.events = events;
+        this.autoAssign = autoAssign;
+        this.duplicateMode = duplicateMode;
+        this.jsonFactory = objectMapper.getFactory();
+        // flushing is done per chunk, not per issue
+        this.feedWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     // Citizen
+    @Transactional
     public Issue createIssue(Issue issue) {
-        return issueRepo.save(issue);
+        if (autoAssign && issue.getAssignedTechnicians().isEmpty()) {
+            Long techId = assignmentEngine.pickBest(issue.getIssueType(), latitudeOf(issue), longitudeOf(issue));
+            if (techId != null)
+                techRepo.findById(techId).ifPresent(tech -> issue.getAssignedTechnicians().add(tech));
+        }
+        Issue saved = issueRepo.save(issue);
+        // the indexes, tallies and technician load pick it up from the event after commit
+        publish(IssueEventType.CREATED, saved, USER_ROLE.ROLE_CITIZEN, saved.getCitizen().getId());
+        return saved;
+    }
+
+    // ---------------- DUPLICATES ----------------
+    // mode: off | suggest (report likely duplicates) | link (vote on the existing issue instead of creating)
+    public List<Long> findDuplicates(Issue draft) {
+        if ("off".equalsIgnoreCase(duplicateMode))
+            return List.of();
+        Double lat = draft.getAddress() == null ? null : draft.getAddress().getLatitude();
+        Double lon = draft.getAddress() == null ? null : draft.getAddress().getLongitude();
+        return duplicateDetector.findDuplicates(draft.getIssueType(), lat, lon, draft.getTitle(),
+                draft.getDescription(), MAX_DUPLICATES);
+    }
+
+    public boolean linksDuplicates() {
+        return "link".equalsIgnoreCase(duplicateMode);
+    }
+
+    // The reporter's "me too": an upvote on the existing issue, unless they already voted or filed it
+    public Issue linkDuplicate(Long existingIssueId, Long citizenId) throws Exception {
+        Issue existing = issueRepo.findById(existingIssueId).orElseThrow(() -> new Exception("Issue not found"));
+        if (!existing.getCitizen().getId().equals(citizenId)
+                && voteService.getVoteByCitizenAndIssue(existingIssueId, citizenId) == null)
+            voteService.createOrUpdateVote(existingIssueId, citizenId, true, null);
+        return existing;
     }
 
-    public List<Issue> getIssuesByCitizen(Long citizenId) {
-        return issueRepo.findAllByCitizenIdWithDetails(citizenId);
+    // Pre-submit check for the report form
+    public List<IssueSummaryResponse> getDuplicateCandidates(Issue draft) {
+        List<Long> ids = findDuplicates(draft);
+        if (ids.isEmpty())
+            return List.of();
+        List<IssueSummaryResponse> rows = inIdOrder(ids, issueRepo.findSummariesByIdIn(ids),
+                IssueSummaryResponse::getId);
+        return rows;
+    }
+
+    public List<IssueDetailResponse> getIssuesByCitizen(Long citizenId) {
+        List<IssueDetailResponse> rows = issueRepo.findDetailsByCitizenId(citizenId);
+        overlayLiveVotes(rows, IssueDetailResponse::getId, IssueDetailResponse::setUpvotes,
+                IssueDetailResponse::setDownvotes);
+        fillImagesAndTechnicians(rows);
+        return rows;
     }
 
     public void deleteIssueByCitizen(Long issueId, Long citizenId) throws Exception {
         Issue issue = issueRepo.findById(issueId).orElseThrow(() -> new Exception("Issue not found"));
         if (!issue.getCitizen().getId().equals(citizenId))
             throw new Exception("Unauthorized");
-        issueRepo.delete(issue);
+        List<Long> techIds = issue.getStatus() == IssueStatus.RESOLVED ? List.of()
+                : issueRepo.findTechnicianSummariesByIssueId(issueId).stream().map(TechnicianSummaryResponse::getId)
+                        .toList();
+        notificationService.deleteIssue(issueId, () -> issueRepo.delete(issue));
+        events.publishEvent(new IssueEvent(IssueEventType.DELETED, issueId, citizenId, issue.getTitle(),
+                issue.getDescription(), issue.getIssueType(), issue.getStatus(), cityOf(issue), latitudeOf(issue),
+                longitudeOf(issue), techIds, USER_ROLE.ROLE_CITIZEN, citizenId, LocalDateTime.now()));
     }
 
     // Officer
@@ -44,16 +175,213 @@ public class IssueService {
         return issueRepo.findAll();
     }
 
+    // Officer + public feed: keyset paging by (reportedAt, id), newest first
+    public CursorPage<IssueDetailResponse> getIssuesPage(String status, String issueType, String city,
+            String cursor, Integer size) throws Exception {
+        int pageSize = CursorUtil.pageSize(size);
+        LocalDateTime cursorAt = cursorAt(cursor);
+        Long cursorId = cursorId(cursor);
+
+        // fetch one extra row to know whether another page exists
+        List<IssueDetailResponse> rows = issueRepo.findDetailPage(parseStatus(status), parseType(issueType), city,
+                cursorAt, cursorId, Limit.of(pageSize + 1));
+        // live tallies rather than the flushed columns, so a cached page does not
+        // depend on the write-behind flush
+        overlayLiveVotes(rows, IssueDetailResponse::getId, IssueDetailResponse::setUpvotes,
+                IssueDetailResponse::setDownvotes);
+        CursorPage<IssueDetailResponse> page = toPage(rows, pageSize, IssueDetailResponse::getReportedAt,
+                IssueDetailResponse::getId);
+        fillImagesAndTechnicians(page.getItems());
+        return page;
+    }
+
+    // ---------------- STREAMING FEED ----------------
+    // Every matching issue as one JSON array, written while reading a database
+    // cursor. Issues are taken FEED_CHUNK_SIZE at a time so lazy collections load
+    // in batches; each chunk is flushed to the client and then detached. Heap use
+    // is bounded by the chunk only because the driver reads the cursor in
+    // fetch-size steps: on MySQL that is useCursorFetch, enforced at startup by
+    // CursorFetchCheck (a buffered result set would hold the whole table).
+    @Transactional
+    public void writeIssueFeed(IssueStatus status, IssueType issueType, String city, OutputStream out)
+            throws IOException {
+        try (Stream<Issue> issues = issueRepo.streamFeed(status, issueType, city);
+                JsonGenerator gen = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartArray();
+            List<Issue> chunk = new ArrayList<>(FEED_CHUNK_SIZE);
+            for (Issue issue : (Iterable<Issue>) issues::iterator) {
+                chunk.add(issue);
+                if (chunk.size() == FEED_CHUNK_SIZE)
+                    writeChunk(gen, chunk);
+            }
+            writeChunk(gen, chunk);
+            gen.writeEndArray();
+        }
+    }
+
+    private void writeChunk(JsonGenerator gen, List<Issue> chunk) throws IOException {
+        for (Issue issue : chunk) {
+            feedWriter.writeValue(gen, issue);
+        }
+        gen.flush();
+        em.clear();
+        chunk.clear();
+    }
+
+    // Same page as getIssuesPage, as flat summary rows (one SQL statement)
+    public CursorPage<IssueSummaryResponse> getIssueSummaries(String status, String issueType, String city,
+            String cursor, Integer size) throws Exception {
+        int pageSize = CursorUtil.pageSize(size);
+        LocalDateTime cursorAt = cursorAt(cursor);
+        Long cursorId = cursorId(cursor);
+
+        List<IssueSummaryResponse> rows = issueRepo.findSummaryPage(parseStatus(status), parseType(issueType),
+                city, cursorAt, cursorId, Limit.of(pageSize + 1));
+        overlayLiveVotes(rows, IssueSummaryResponse::getId, IssueSummaryResponse::setUpvotes,
+                IssueSummaryResponse::setDownvotes);
+        return toPage(rows, pageSize, IssueSummaryResponse::getReportedAt, IssueSummaryResponse::getId);
+    }
+
+    public IssueDetailResponse getIssueDetail(Long issueId) throws Exception {
+        IssueDetailResponse detail = issueRepo.findDetailById(issueId);
+        if (detail == null)
+            throw new Exception("Issue not found");
+        VoteCountResponse counts = voteCounter.getCounts(issueId);
+        detail.setUpvotes(counts.getUpvotes());
+        detail.setDownvotes(counts.getDownvotes());
+        detail.setImageUrls(issueRepo.findImageUrlsByIssueId(issueId));
+        detail.setTechnicians(issueRepo.findTechnicianSummariesByIssueId(issueId));
+        return detail;
+    }
+
+    // Timeline access: officers and heads, the reporter, the assigned technicians.
+    // Officers and heads keep access after the issue is deleted.
+    public void validateTimelineAccess(Long issueId, Object user) throws Exception {
+        if (user instanceof Officer || user instanceof Head)
+            return;
+        Issue issue = issueRepo.findById(issueId).orElseThrow(() -> new Exception("Issue not found"));
+        if (user instanceof Citizen citizen && issue.getCitizen() != null
+                && issue.getCitizen().getId().equals(citizen.getId()))
+            return;
+        if (user instanceof Technician tech
+                && issueRepo.findTechnicianIdsByIssueIdIn(List.of(issueId)).stream()
+                        .anyMatch(row -> tech.getId().equals(row[1])))
+            return;
+        throw new Exception("Unauthorized");
+    }
+
+    // Public map: issues within radius (meters) of a point, nearest first
+    public List<Issue> getNearbyIssues(double lat, double lon, Double radius, Integer size) throws Exception {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180)
+            throw new Exception("Invalid coordinates");
+        double radiusMeters = radius == null ? DEFAULT_RADIUS_METERS
+                : Math.min(Math.max(radius, 1), MAX_RADIUS_METERS);
+        int limit = CursorUtil.pageSize(size);
+
+        List<Long> ids = spatialIndex.findNearby(lat, lon, radiusMeters, limit);
+        if (ids.isEmpty())
+            return List.of();
+
+        List<Issue> issues = inIdOrder(ids, issueRepo.findAllWithAddressByIdIn(ids), Issue::getId);
+        return issues;
+    }
+
+    // Keyword search over title + description, best match first. Results are
+    // ranked rather than time-ordered, so the cursor is an offset into the ranking.
+    public CursorPage<IssueSummaryResponse> searchIssues(String query, String cursor, Integer size) throws Exception {
+        int pageSize = CursorUtil.pageSize(size);
+        int offset = searchOffset(cursor);
+
+        List<Long> ranked = searchIndex.search(query);
+        if (offset >= ranked.size())
+            return new CursorPage<>(List.of(), null);
+        List<Long> ids = ranked.subList(offset, Math.min(offset + pageSize, ranked.size()));
+
+        List<IssueSummaryResponse> rows = inIdOrder(ids, issueRepo.findSummariesByIdIn(ids),
+                IssueSummaryResponse::getId);
+        overlayLiveVotes(rows, IssueSummaryResponse::getId, IssueSummaryResponse::setUpvotes,
+                IssueSummaryResponse::setDownvotes);
+
+        int next = offset + pageSize;
+        return new CursorPage<>(rows, next < ranked.size() ? String.valueOf(next) : null);
+    }
+
     @Transactional
-    public Issue assignTechnicians(Long issueId, Set<Long> technicianIds) throws Exception {
+    public Issue assignTechnicians(Long issueId, Set<Long> technicianIds, Long officerId) throws Exception {
         Issue issue = issueRepo.findById(issueId).orElseThrow(() -> new Exception("Issue not found"));
         Set<Technician> technicians = techRepo.findAllById(technicianIds).stream()
                 .collect(java.util.stream.Collectors.toSet());
+        List<Long> before = technicianIds(issue);
         issue.getAssignedTechnicians().clear();
         issue.getAssignedTechnicians().addAll(technicians);
+        if (issue.getStatus() != IssueStatus.RESOLVED) {
+            assignmentEngine.onReleased(before);
+            assignmentEngine.onAssigned(technicianIds(issue));
+        }
+        publish(IssueEventType.ASSIGNED, issue, USER_ROLE.ROLE_OFFICER, officerId);
         return issue;
     }
 
+    // Officer: assign the best-scoring eligible technician not already on the issue
+    @Transactional
+    public Issue autoAssignTechnician(Long issueId, Long officerId) throws Exception {
+        Issue issue = issueRepo.findById(issueId).orElseThrow(() -> new Exception("Issue not found"));
+        List<Long> assigned = technicianIds(issue);
+        Long techId = null;
+        for (Long candidate : recommendTechnicianIds(issue, assigned.size() + 1)) {
+            if (!assigned.contains(candidate)) {
+                techId = candidate;
+                break;
+            }
+        }
+        if (techId == null)
+            throw new Exception("No technician available for this issue type");
+        Technician tech = techRepo.findById(techId).orElseThrow(() -> new Exception("Technician not found"));
+        issue.getAssignedTechnicians().add(tech);
+        if (issue.getStatus() != IssueStatus.RESOLVED)
+            assignmentEngine.onAssigned(List.of(techId));
+        publish(IssueEventType.ASSIGNED, issue, USER_ROLE.ROLE_OFFICER, officerId);
+        return issue;
+    }
+
+    // Officer: ranked suggestions for the assign dialog
+    public List<TechnicianSummaryResponse> getRecommendedTechnicians(Long issueId, Integer size) throws Exception {
+        Issue issue = issueRepo.findById(issueId).orElseThrow(() -> new Exception("Issue not found"));
+        List<Long> ids = recommendTechnicianIds(issue, CursorUtil.pageSize(size));
+        if (ids.isEmpty())
+            return List.of();
+        List<TechnicianSummaryResponse> techs = inIdOrder(ids, techRepo.findSummariesByIdIn(ids),
+                TechnicianSummaryResponse::getId);
+        return techs;
+    }
+
+    private List<Long> recommendTechnicianIds(Issue issue, int limit) {
+        return assignmentEngine.recommend(issue.getIssueType(), latitudeOf(issue), longitudeOf(issue), limit);
+    }
+
+    // delivered to listeners once the surrounding transaction commits
+    private void publish(IssueEventType type, Issue issue, USER_ROLE actorRole, Long actorId) {
+        events.publishEvent(new IssueEvent(type, issue.getId(), issue.getCitizen().getId(), issue.getTitle(),
+                issue.getDescription(), issue.getIssueType(), issue.getStatus(), cityOf(issue), latitudeOf(issue),
+                longitudeOf(issue), technicianIds(issue), actorRole, actorId, LocalDateTime.now()));
+    }
+
+    static String cityOf(Issue issue) {
+        return issue.getAddress() == null ? null : issue.getAddress().getCity();
+    }
+
+    static Double latitudeOf(Issue issue) {
+        return issue.getAddress() == null ? null : issue.getAddress().getLatitude();
+    }
+
+    static Double longitudeOf(Issue issue) {
+        return issue.getAddress() == null ? null : issue.getAddress().getLongitude();
+    }
+
+    private List<Long> technicianIds(Issue issue) {
+        return issue.getAssignedTechnicians().stream().map(Technician::getId).toList();
+    }
+
     // Technician
     @Transactional
     public Issue updateStatusByTechnician(Long issueId, String status, Long techId) throws Exception {
@@ -61,12 +389,114 @@ public class IssueService {
         boolean assigned = issue.getAssignedTechnicians().stream().anyMatch(t -> t.getId().equals(techId));
         if (!assigned)
             throw new Exception("Technician not assigned to this issue");
+        boolean wasResolved = issue.getStatus() == IssueStatus.RESOLVED;
         issue.setStatus(Enum.valueOf(com.citycare.backend.domain.IssueStatus.class, status.toUpperCase()));
+        boolean resolved = issue.getStatus() == IssueStatus.RESOLVED;
+        if (resolved && !wasResolved) {
+            issue.setResolvedAt(LocalDateTime.now());
+            assignmentEngine.onReleased(technicianIds(issue));
+            events.publishEvent(new IssueResolvedEvent(issueId, issue.getIssueType(), cityOf(issue),
+                    technicianIds(issue), issue.getReportedAt(), issue.getResolvedAt()));
+        } else if (wasResolved && !resolved) {
+            issue.setResolvedAt(null); // reopened
+            assignmentEngine.onAssigned(technicianIds(issue));
+        }
+        publish(IssueEventType.STATUS_CHANGED, issue, USER_ROLE.ROLE_TECHNICIAN, techId);
         return issue;
     }
 
-    public List<Issue> getIssuesForTechnician(Long techId) {
-        return issueRepo.findAllForTechnicianWithDetails(techId);
+    public List<TechnicianIssueResponse> getTechnicianView(Long techId) {
+        List<TechnicianIssueResponse> rows = issueRepo.findTechnicianViewByTechnicianId(techId);
+        overlayLiveVotes(rows, TechnicianIssueResponse::getId, TechnicianIssueResponse::setUpvotes,
+                TechnicianIssueResponse::setDownvotes);
+        return rows;
+    }
+
+    // ---------------- PAGING HELPERS ----------------
+    // rows fetched with id IN (...) come back in table order; put them back in
+    // the order of the ranked ids
+    private static <T> List<T> inIdOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        List<T> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(row -> order.get(idOf.apply(row))));
+        return sorted;
+    }
+
+    // images and technicians of a listing: one id-keyed query each, not one per row
+    private void fillImagesAndTechnicians(List<IssueDetailResponse> rows) {
+        if (rows.isEmpty())
+            return;
+        Map<Long, IssueDetailResponse> byId = new HashMap<>();
+        for (IssueDetailResponse row : rows) {
+            byId.put(row.getId(), row);
+        }
+        for (Object[] pair : issueRepo.findImageUrlsByIssueIdIn(byId.keySet())) {
+            byId.get((Long) pair[0]).getImageUrls().add((String) pair[1]);
+        }
+        for (Object[] tech : issueRepo.findTechnicianSummariesByIssueIdIn(byId.keySet())) {
+            byId.get((Long) tech[0]).getTechnicians()
+                    .add(new TechnicianSummaryResponse((Long) tech[1], (String) tech[2], (String) tech[3]));
+        }
+    }
+
+    // the vote columns lag by one flush interval; prefer live tallies when loaded
+    private <T> void overlayLiveVotes(List<T> rows, Function<T, Long> idOf, BiConsumer<T, Long> setUpvotes,
+            BiConsumer<T, Long> setDownvotes) {
+        for (T row : rows) {
+            VoteCountResponse live = voteCounter.peek(idOf.apply(row));
+            if (live != null) {
+                setUpvotes.accept(row, live.getUpvotes());
+                setDownvotes.accept(row, live.getDownvotes());
+            }
+        }
+    }
+
+    // optional listing filters; a value that is not a constant is a bad request
+    public IssueStatus parseStatus(String status) throws Exception {
+        try {
+            return status == null ? null : Enum.valueOf(IssueStatus.class, status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new Exception("Invalid status: " + status);
+        }
+    }
+
+    public IssueType parseType(String issueType) throws Exception {
+        try {
+            return issueType == null ? null : Enum.valueOf(IssueType.class, issueType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new Exception("Invalid issue type: " + issueType);
+        }
+    }
+
+    private LocalDateTime cursorAt(String cursor) throws Exception {
+        return cursor == null || cursor.isEmpty() ? null : CursorUtil.decodeReportedAt(cursor);
+    }
+
+    private Long cursorId(String cursor) throws Exception {
+        return cursor == null || cursor.isEmpty() ? null : CursorUtil.decodeId(cursor);
+    }
+
+    private int searchOffset(String cursor) throws Exception {
+        if (cursor == null || cursor.isEmpty())
+            return 0;
+        try {
+            return Math.max(Integer.parseInt(cursor), 0);
+        } catch (NumberFormatException e) {
+            throw new Exception("Invalid cursor");
+        }
+    }
+
+    // rows holds up to pageSize + 1 entries; the extra one only signals a next page
+    private <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, LocalDateTime> reportedAt,
+            Function<T, Long> id) {
+        if (rows.size() <= pageSize)
+            return new CursorPage<>(rows, null);
+        List<T> page = rows.subList(0, pageSize);
+        T last = page.get(pageSize - 1);
+        return new CursorPage<>(page, CursorUtil.encode(reportedAt.apply(last), id.apply(last)));
     }
 
     
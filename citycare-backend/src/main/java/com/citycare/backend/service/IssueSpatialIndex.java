@@ -0,0 +1,150 @@
+package com.citycare.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.repository.IssueRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// In-memory grid over issue coordinates, so "near me" queries only look at
+// the handful of cells around the point instead of every row. Kept current
+// from committed issue events; cells are dropped once their last issue goes.
+@Component
+@RequiredArgsConstructor
+public class IssueSpatialIndex {
+
+    private static final double CELL_DEG = 0.01; // ~1.1 km of latitude per cell
+    private static final double METERS_PER_DEG_LAT = 111_320.0;
+    private static final double EARTH_RADIUS_M = 6_371_000.0;
+
+    public record Hit(long id, double distanceMeters) {
+    }
+
+    private final IssueRepository issueRepo;
+
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, double[]> points = new ConcurrentHashMap<>();
+
+    // ---------------- LOAD ON STARTUP ----------------
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        cells.clear();
+        points.clear();
+        for (Object[] row : issueRepo.findAllLocations()) {
+            add((Long) row[0], (Double) row[1], (Double) row[2]);
+        }
+    }
+
+    // after commit: a rolled-back create never shows up in "near me"
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.type() == IssueEventType.CREATED)
+            add(event.issueId(), event.latitude(), event.longitude());
+        else if (event.type() == IssueEventType.DELETED)
+            remove(event.issueId());
+    }
+
+    public void add(Long issueId, Double lat, Double lon) {
+        if (issueId == null || lat == null || lon == null)
+            return;
+        remove(issueId);
+        points.put(issueId, new double[] { lat, lon });
+        // compute, not computeIfAbsent + add: the set must not be dropped by a
+        // concurrent remove between the lookup and the add
+        cells.compute(cellKey(lat, lon), (k, cell) -> {
+            if (cell == null)
+                cell = ConcurrentHashMap.newKeySet();
+            cell.add(issueId);
+            return cell;
+        });
+    }
+
+    public void remove(Long issueId) {
+        double[] p = points.remove(issueId);
+        if (p == null)
+            return;
+        cells.computeIfPresent(cellKey(p[0], p[1]), (k, cell) -> {
+            cell.remove(issueId);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    // Issue ids within radiusMeters of (lat, lon), nearest first
+    public List<Long> findNearby(double lat, double lon, double radiusMeters, int limit) {
+        List<Hit> hits = findNearby(lat, lon, radiusMeters, limit, id -> true);
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            ids.add(hit.id());
+        }
+        return ids;
+    }
+
+    // Nearest issues accepted by the filter; the filter runs before the limit,
+    // so other issues around the point cannot crowd the matching ones out
+    public List<Hit> findNearby(double lat, double lon, double radiusMeters, int limit, LongPredicate filter) {
+        double dLat = radiusMeters / METERS_PER_DEG_LAT;
+        double dLon = radiusMeters / (METERS_PER_DEG_LAT * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        long minRow = cellIndex(lat - dLat), maxRow = cellIndex(lat + dLat);
+        long minCol = cellIndex(lon - dLon), maxCol = cellIndex(lon + dLon);
+
+        List<Hit> hits = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Set<Long> cell = cells.get(key(row, col));
+                if (cell == null)
+                    continue;
+                for (Long id : cell) {
+                    double[] p = points.get(id);
+                    if (p == null || !filter.test(id))
+                        continue;
+                    double d = distanceMeters(lat, lon, p[0], p[1]);
+                    if (d <= radiusMeters)
+                        hits.add(new Hit(id, d));
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    // number of non-empty grid cells
+    int cellCount() {
+        return cells.size();
+    }
+
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.sqrt(a));
+    }
+
+    private static long cellIndex(double deg) {
+        return (long) Math.floor(deg / CELL_DEG);
+    }
+
+    private static long cellKey(double lat, double lon) {
+        return key(cellIndex(lat), cellIndex(lon));
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+}
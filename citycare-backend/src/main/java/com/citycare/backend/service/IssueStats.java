@@ -0,0 +1,235 @@
+package com.citycare.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.response.IssueStatsResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Dashboard rollups (issue counts by type, status and city) kept as counters
+// and moved on every create, assignment, status change and delete. Each issue's
+// current cell is remembered so a status change knows what to decrement. The
+// response is built once per change and shared by every read until the next.
+@Slf4j
+@Component
+public class IssueStats {
+
+    public static final String UNKNOWN_CITY = "UNKNOWN";
+    private static final int LOAD_BATCH = 1000;
+    private static final IssueType[] TYPES = IssueType.values();
+    private static final IssueStatus[] STATUSES = IssueStatus.values();
+
+    private final IssueRepository issueRepo;
+
+    private record Cell(IssueType type, IssueStatus status, String city) {
+    }
+
+    private static final class Counts {
+        final Map<Long, Cell> cells = new HashMap<>();
+        final long[][] typeStatus = new long[TYPES.length][STATUSES.length];
+        final Map<String, long[]> cityStatus = new HashMap<>();
+
+        void put(Long issueId, Cell cell) {
+            Cell previous = cells.put(issueId, cell);
+            if (previous != null)
+                bump(previous, -1);
+            bump(cell, 1);
+        }
+
+        void remove(Long issueId) {
+            Cell previous = cells.remove(issueId);
+            if (previous != null)
+                bump(previous, -1);
+        }
+
+        private void bump(Cell cell, int delta) {
+            typeStatus[cell.type().ordinal()][cell.status().ordinal()] += delta;
+            long[] counts = cityStatus.computeIfAbsent(cell.city(), c -> new long[STATUSES.length]);
+            counts[cell.status().ordinal()] += delta;
+            if (delta < 0 && isZero(counts))
+                cityStatus.remove(cell.city());
+        }
+    }
+
+    // guarded by this
+    private Counts counts = new Counts();
+    private List<Consumer<Counts>> replay;
+    private LocalDateTime reconciledAt;
+
+    private volatile IssueStatsResponse snapshot;
+
+    public IssueStats(IssueRepository issueRepo) {
+        this.issueRepo = issueRepo;
+    }
+
+    // ---------------- RECONCILE ----------------
+    // Full recount on startup and periodically. Changes that arrive while the
+    // table is being read are replayed onto the fresh counts before the swap;
+    // replaying is safe because put/remove are idempotent per issue.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${citycare.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${citycare.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (this) {
+            replay = new ArrayList<>();
+        }
+        Counts fresh = new Counts();
+        try {
+            Long afterId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = issueRepo.findStatsRowsAfter(afterId, Limit.of(LOAD_BATCH));
+                for (Object[] row : rows) {
+                    afterId = (Long) row[0];
+                    Cell cell = cell((IssueType) row[1], (IssueStatus) row[2], (String) row[3]);
+                    if (cell != null)
+                        fresh.put(afterId, cell);
+                }
+            } while (rows.size() == LOAD_BATCH);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                replay = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (Consumer<Counts> change : replay) {
+                change.accept(fresh);
+            }
+            if (reconciledAt != null && !sameCounts(counts, fresh))
+                log.info("Issue stats drifted from the database; corrected by reconcile");
+            replay = null;
+            counts = fresh;
+            reconciledAt = LocalDateTime.now();
+            snapshot = null;
+        }
+    }
+
+    // ---------------- INCREMENTAL UPDATES ----------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        switch (event.type()) {
+            case CREATED, ASSIGNED, STATUS_CHANGED -> record(event.issueId(), event.issueType(), event.status(),
+                    event.city());
+            case DELETED -> apply(c -> c.remove(event.issueId()));
+            default -> {
+                // votes do not move an issue between cells
+            }
+        }
+    }
+
+    // also called for issues that enter without an event (bulk import)
+    public void record(Long issueId, IssueType type, IssueStatus status, String city) {
+        Cell cell = cell(type, status, city);
+        if (issueId != null && cell != null)
+            apply(c -> c.put(issueId, cell));
+    }
+
+    private synchronized void apply(Consumer<Counts> change) {
+        change.accept(counts);
+        if (replay != null)
+            replay.add(change);
+        snapshot = null;
+    }
+
+    // ---------------- READ ----------------
+    public IssueStatsResponse getStats() {
+        IssueStatsResponse current = snapshot;
+        return current != null ? current : build();
+    }
+
+    private synchronized IssueStatsResponse build() {
+        if (snapshot != null)
+            return snapshot;
+
+        Map<IssueStatus, Long> byStatus = zeroByStatus();
+        Map<IssueType, Long> byType = new EnumMap<>(IssueType.class);
+        Map<IssueType, Map<IssueStatus, Long>> byTypeAndStatus = new EnumMap<>(IssueType.class);
+        for (IssueType type : TYPES) {
+            Map<IssueStatus, Long> row = zeroByStatus();
+            long sum = 0;
+            for (IssueStatus status : STATUSES) {
+                long n = counts.typeStatus[type.ordinal()][status.ordinal()];
+                row.put(status, n);
+                byStatus.merge(status, n, Long::sum);
+                sum += n;
+            }
+            byType.put(type, sum);
+            byTypeAndStatus.put(type, row);
+        }
+
+        Map<String, Long> byCity = new TreeMap<>();
+        Map<String, Map<IssueStatus, Long>> byCityAndStatus = new TreeMap<>();
+        counts.cityStatus.forEach((city, perStatus) -> {
+            Map<IssueStatus, Long> row = zeroByStatus();
+            long sum = 0;
+            for (IssueStatus status : STATUSES) {
+                row.put(status, perStatus[status.ordinal()]);
+                sum += perStatus[status.ordinal()];
+            }
+            byCity.put(city, sum);
+            byCityAndStatus.put(city, row);
+        });
+
+        snapshot = new IssueStatsResponse(counts.cells.size(), byStatus, byType, byCity, byTypeAndStatus,
+                byCityAndStatus, reconciledAt);
+        return snapshot;
+    }
+
+    // ---------------- HELPERS ----------------
+    private static Cell cell(IssueType type, IssueStatus status, String city) {
+        if (type == null || status == null)
+            return null;
+        return new Cell(type, status, city == null || city.isBlank() ? UNKNOWN_CITY : city.trim());
+    }
+
+    private static Map<IssueStatus, Long> zeroByStatus() {
+        Map<IssueStatus, Long> map = new EnumMap<>(IssueStatus.class);
+        for (IssueStatus status : STATUSES) {
+            map.put(status, 0L);
+        }
+        return map;
+    }
+
+    private static boolean isZero(long[] counts) {
+        for (long n : counts) {
+            if (n != 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean sameCounts(Counts a, Counts b) {
+        if (a.cityStatus.size() != b.cityStatus.size())
+            return false;
+        for (int t = 0; t < TYPES.length; t++) {
+            if (!Arrays.equals(a.typeStatus[t], b.typeStatus[t]))
+                return false;
+        }
+        for (Map.Entry<String, long[]> e : a.cityStatus.entrySet()) {
+            if (!Arrays.equals(e.getValue(), b.cityStatus.get(e.getKey())))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,197 @@
+package com.citycare.backend.service;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.response.IssueStatusUpdate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Server-sent events to the citizen who reported an issue. Each connection has
+// a small bounded queue drained by its own virtual sender thread, so a client
+// whose socket blocks stalls only itself; one that falls more than
+// queue-capacity events behind is disconnected (it reconnects and refetches)
+// instead of holding memory.
+@Slf4j
+@Component
+public class IssueStatusStream {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService senders;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int maxPerUser;
+
+    private final class Subscriber {
+        final Long userId;
+        final SseEmitter emitter;
+        final Queue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+
+    public IssueStatusStream(@Value("${citycare.sse.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${citycare.sse.queue-capacity:32}") int queueCapacity,
+            @Value("${citycare.sse.max-connections-per-user:5}") int maxPerUser) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxPerUser = maxPerUser;
+        // a thread per drain; the draining flag keeps it to one per subscriber
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-sender-", 0).factory());
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber sub = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> close(sub));
+        emitter.onTimeout(() -> close(sub));
+        emitter.onError(e -> close(sub));
+
+        Set<Subscriber> subs = subscribers.compute(userId, (id, existing) -> {
+            Set<Subscriber> set = existing != null ? existing : new CopyOnWriteArraySet<>();
+            set.add(sub);
+            return set;
+        });
+        // too many open tabs: drop the oldest connection
+        Iterator<Subscriber> oldest = subs.iterator();
+        while (subs.size() > maxPerUser && oldest.hasNext()) {
+            Subscriber s = oldest.next();
+            if (s != sub)
+                disconnect(s);
+        }
+
+        enqueue(sub, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.type() != IssueEventType.ASSIGNED && event.type() != IssueEventType.STATUS_CHANGED)
+            return;
+        Set<Subscriber> subs = subscribers.get(event.citizenId());
+        if (subs == null || subs.isEmpty())
+            return;
+        IssueStatusUpdate update = new IssueStatusUpdate(event.type(), event.issueId(), event.title(),
+                event.status(), event.technicianIds(), event.at());
+        for (Subscriber sub : subs) {
+            enqueue(sub, SseEmitter.event()
+                    .id(String.valueOf(eventIds.incrementAndGet()))
+                    .name(event.type().name().toLowerCase())
+                    .data(update));
+        }
+    }
+
+    // keeps idle connections open through proxies and detects dead clients
+    @Scheduled(fixedRateString = "${citycare.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subs : subscribers.values()) {
+            for (Subscriber sub : subs) {
+                enqueue(sub, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void enqueue(Subscriber sub, SseEmitter.SseEventBuilder event) {
+        if (sub.closed.get())
+            return;
+        if (!sub.queue.offer(event)) {
+            log.warn("SSE client for user {} is too slow, disconnecting", sub.userId);
+            disconnect(sub);
+            return;
+        }
+        scheduleDrain(sub);
+    }
+
+    private void scheduleDrain(Subscriber sub) {
+        if (sub.draining.compareAndSet(false, true))
+            senders.execute(() -> drain(sub));
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!sub.closed.get() && (event = sub.queue.poll()) != null) {
+                sub.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            disconnect(sub);
+        } finally {
+            sub.draining.set(false);
+        }
+        // an event may have been queued after the last poll but before the flag cleared
+        if (!sub.closed.get() && !sub.queue.isEmpty())
+            scheduleDrain(sub);
+    }
+
+    // completing waits for a send in progress, so it never runs on the caller
+    // (the event listener or the heartbeat)
+    private void disconnect(Subscriber sub) {
+        if (!close(sub))
+            return;
+        try {
+            senders.execute(() -> complete(sub));
+        } catch (RejectedExecutionException e) {
+            complete(sub); // shutting down
+        }
+    }
+
+    private static void complete(Subscriber sub) {
+        try {
+            sub.emitter.complete();
+        } catch (IllegalStateException e) {
+            // response already gone (client left or container shutting down)
+        }
+    }
+
+    private boolean close(Subscriber sub) {
+        if (!sub.closed.compareAndSet(false, true))
+            return false;
+        sub.queue.clear();
+        subscribers.computeIfPresent(sub.userId, (id, subs) -> {
+            subs.remove(sub);
+            return subs.isEmpty() ? null : subs;
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscriber> subs : subscribers.values()) {
+            for (Subscriber sub : subs) {
+                if (close(sub))
+                    complete(sub);
+            }
+        }
+        senders.shutdownNow();
+    }
+}
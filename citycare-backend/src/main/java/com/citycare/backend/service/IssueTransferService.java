@@ -0,0 +1,338 @@
+package com.citycare.backend.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.model.Address;
+import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Issue;
+import com.citycare.backend.repository.CitizenRepository;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.response.ImportResponse;
+import com.citycare.backend.response.IssueExportRow;
+import com.citycare.backend.response.VoteCountResponse;
+import com.citycare.backend.utils.CsvUtil;
+import com.citycare.backend.utils.TtlCache;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Bulk issue export / import as CSV or NDJSON. Export streams rows straight
+// from a database cursor to the response; import parses one record at a time
+// and inserts in batched transactions, clearing the persistence context after
+// each batch. Memory stays flat regardless of file size.
+@Service
+public class IssueTransferService {
+
+    public static final List<String> COLUMNS = List.of("id", "title", "description", "issueType", "status",
+            "reportedAt", "resolvedAt", "citizenEmail", "addressName", "streetAddress", "locality", "city",
+            "state", "pinCode", "latitude", "longitude", "upvotes", "downvotes");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final IssueRepository issueRepo;
+    private final CitizenRepository citizenRepo;
+    private final VoteCounter voteCounter;
+    private final IssueSpatialIndex spatialIndex;
+    private final IssueSearchIndex searchIndex;
+    private final IssueDuplicateDetector duplicateDetector;
+    private final PublicFeedCache publicFeedCache;
+    private final IssueStats issueStats;
+    private final ResolutionLatency resolutionLatency;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectReader ndjsonReader;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private record Pending(Issue issue, Long citizenId) {
+    }
+
+    public IssueTransferService(IssueRepository issueRepo, CitizenRepository citizenRepo, VoteCounter voteCounter,
+            IssueSpatialIndex spatialIndex, IssueSearchIndex searchIndex, IssueDuplicateDetector duplicateDetector,
+            PublicFeedCache publicFeedCache, IssueStats issueStats, ResolutionLatency resolutionLatency,
+            PlatformTransactionManager txManager, ObjectMapper objectMapper,
+            @Value("${citycare.transfer.import-batch-size:500}") int batchSize) {
+        this.issueRepo = issueRepo;
+        this.citizenRepo = citizenRepo;
+        this.voteCounter = voteCounter;
+        this.spatialIndex = spatialIndex;
+        this.searchIndex = searchIndex;
+        this.duplicateDetector = duplicateDetector;
+        this.publicFeedCache = publicFeedCache;
+        this.issueStats = issueStats;
+        this.resolutionLatency = resolutionLatency;
+        this.tx = new TransactionTemplate(txManager);
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.ndjsonWriter = objectMapper.writerFor(IssueExportRow.class);
+        this.ndjsonReader = objectMapper.readerFor(IssueExportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.batchSize = batchSize;
+    }
+
+    public static boolean isSupported(String format) {
+        return "csv".equals(format) || "ndjson".equals(format);
+    }
+
+    // ---------------- EXPORT ----------------
+    public void export(String format, OutputStream os) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8), BUFFER_SIZE);
+        boolean csv = "csv".equals(format);
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<IssueExportRow> rows = issueRepo.streamExportRows()) {
+                    if (csv)
+                        CsvUtil.writeRow(out, COLUMNS);
+                    for (IssueExportRow row : (Iterable<IssueExportRow>) rows::iterator) {
+                        // the count columns lag by one flush interval; prefer live tallies
+                        VoteCountResponse live = voteCounter.peek(row.getId());
+                        if (live != null) {
+                            row.setUpvotes(live.getUpvotes());
+                            row.setDownvotes(live.getDownvotes());
+                        }
+                        if (csv) {
+                            CsvUtil.writeRow(out, toFields(row));
+                        } else {
+                            out.write(ndjsonWriter.writeValueAsString(row));
+                            out.write('\n');
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private static List<String> toFields(IssueExportRow r) {
+        return java.util.Arrays.asList(str(r.getId()), r.getTitle(), r.getDescription(), str(r.getIssueType()),
+                str(r.getStatus()), str(r.getReportedAt()), str(r.getResolvedAt()), r.getCitizenEmail(),
+                r.getAddressName(), r.getStreetAddress(), r.getLocality(), r.getCity(), r.getState(),
+                r.getPinCode(), str(r.getLatitude()), str(r.getLongitude()), str(r.getUpvotes()),
+                str(r.getDownvotes()));
+    }
+
+    private static String str(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    // ---------------- IMPORT ----------------
+    // Records are matched to an existing citizen by citizenEmail; ids and vote
+    // counts in the file are ignored. Bad records are skipped and reported.
+    public ImportResponse importIssues(String format, InputStream is) throws Exception {
+        BufferedReader in = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ImportResponse result = new ImportResponse();
+        TtlCache<String, Long> citizenIds = new TtlCache<>(10_000, 3_600_000);
+        List<Pending> batch = new ArrayList<>(batchSize);
+
+        Map<String, Integer> header = null;
+        if ("csv".equals(format)) {
+            List<String> names = CsvUtil.readRow(in);
+            if (names == null)
+                return result;
+            header = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                header.put(names.get(i).trim(), i);
+            }
+            if (!header.containsKey("title") || !header.containsKey("issueType") || !header.containsKey("citizenEmail"))
+                throw new Exception("CSV header must include title, issueType and citizenEmail");
+        }
+
+        long record = 0;
+        while (true) {
+            IssueExportRow row;
+            try {
+                if (header != null) {
+                    List<String> fields = CsvUtil.readRow(in);
+                    if (fields == null)
+                        break;
+                    record++;
+                    if (fields.size() == 1 && fields.get(0).isBlank())
+                        continue;
+                    row = fromFields(fields, header);
+                } else {
+                    String line = in.readLine();
+                    if (line == null)
+                        break;
+                    record++;
+                    if (line.isBlank())
+                        continue;
+                    row = ndjsonReader.readValue(line);
+                }
+                batch.add(toPending(row, citizenIds));
+            } catch (IOException e) {
+                if (header != null)
+                    throw new Exception("Malformed CSV at record " + (record + 1) + ": " + e.getMessage());
+                skip(result, "record " + record + ": " + e.getMessage());
+                continue;
+            } catch (Exception e) {
+                skip(result, "record " + record + ": " + e.getMessage());
+                continue;
+            }
+            if (batch.size() >= batchSize)
+                writeBatch(batch, result, record);
+        }
+        writeBatch(batch, result, record);
+        return result;
+    }
+
+    private IssueExportRow fromFields(List<String> fields, Map<String, Integer> header) throws Exception {
+        IssueExportRow row = new IssueExportRow();
+        row.setTitle(field(fields, header, "title"));
+        row.setDescription(field(fields, header, "description"));
+        row.setIssueType(parseEnum(IssueType.class, field(fields, header, "issueType"), "issueType"));
+        row.setStatus(parseEnum(IssueStatus.class, field(fields, header, "status"), "status"));
+        String reportedAt = field(fields, header, "reportedAt");
+        row.setReportedAt(reportedAt == null ? null : LocalDateTime.parse(reportedAt.trim()));
+        String resolvedAt = field(fields, header, "resolvedAt");
+        row.setResolvedAt(resolvedAt == null ? null : LocalDateTime.parse(resolvedAt.trim()));
+        row.setCitizenEmail(field(fields, header, "citizenEmail"));
+        row.setAddressName(field(fields, header, "addressName"));
+        row.setStreetAddress(field(fields, header, "streetAddress"));
+        row.setLocality(field(fields, header, "locality"));
+        row.setCity(field(fields, header, "city"));
+        row.setState(field(fields, header, "state"));
+        row.setPinCode(field(fields, header, "pinCode"));
+        String lat = field(fields, header, "latitude");
+        row.setLatitude(lat == null ? null : Double.valueOf(lat.trim()));
+        String lon = field(fields, header, "longitude");
+        row.setLongitude(lon == null ? null : Double.valueOf(lon.trim()));
+        return row;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String column) throws Exception {
+        if (value == null)
+            return null;
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new Exception("Invalid " + column + ": " + value);
+        }
+    }
+
+    // empty cells read as null
+    private static String field(List<String> fields, Map<String, Integer> header, String name) {
+        Integer i = header.get(name);
+        if (i == null || i >= fields.size() || fields.get(i).isEmpty())
+            return null;
+        return fields.get(i);
+    }
+
+    private Pending toPending(IssueExportRow row, TtlCache<String, Long> citizenIds) throws Exception {
+        if (row.getTitle() == null || row.getTitle().isBlank())
+            throw new Exception("title is required");
+        if (row.getIssueType() == null)
+            throw new Exception("issueType is required");
+        if (row.getCitizenEmail() == null)
+            throw new Exception("citizenEmail is required");
+
+        Long citizenId = citizenIds.get(row.getCitizenEmail());
+        if (citizenId == null) {
+            citizenId = citizenRepo.findIdByEmail(row.getCitizenEmail());
+            if (citizenId == null)
+                throw new Exception("Citizen not found: " + row.getCitizenEmail());
+            citizenIds.put(row.getCitizenEmail(), citizenId);
+        }
+
+        Issue issue = new Issue();
+        issue.setTitle(row.getTitle());
+        issue.setDescription(row.getDescription());
+        issue.setIssueType(row.getIssueType());
+        if (row.getStatus() != null)
+            issue.setStatus(row.getStatus());
+        if (row.getReportedAt() != null)
+            issue.setReportedAt(row.getReportedAt());
+        issue.setResolvedAt(row.getResolvedAt());
+
+        Address address = new Address();
+        address.setName(row.getAddressName());
+        address.setStreetAddress(row.getStreetAddress());
+        address.setLocality(row.getLocality());
+        address.setCity(row.getCity());
+        address.setState(row.getState());
+        address.setPinCode(row.getPinCode());
+        address.setLatitude(row.getLatitude());
+        address.setLongitude(row.getLongitude());
+        issue.setAddress(address);
+        return new Pending(issue, citizenId);
+    }
+
+    private void writeBatch(List<Pending> batch, ImportResponse result, long lastRecord) {
+        if (batch.isEmpty())
+            return;
+        try {
+            tx.executeWithoutResult(status -> {
+                for (Pending p : batch) {
+                    p.issue().setCitizen(em.getReference(Citizen.class, p.citizenId()));
+                    em.persist(p.issue());
+                }
+                em.flush();
+                em.clear();
+            });
+        } catch (RuntimeException e) {
+            result.setSkipped(result.getSkipped() + batch.size());
+            addError(result, "batch ending at record " + lastRecord + " failed: " + e.getMessage());
+            batch.clear();
+            return;
+        }
+
+        result.setImported(result.getImported() + batch.size());
+        for (Pending p : batch) {
+            Issue issue = p.issue();
+            voteCounter.register(issue.getId());
+            spatialIndex.add(issue.getId(), issue.getAddress().getLatitude(), issue.getAddress().getLongitude());
+            searchIndex.add(issue.getId(), issue.getTitle(), issue.getDescription());
+            issueStats.record(issue.getId(), issue.getIssueType(), issue.getStatus(), issue.getAddress().getCity());
+            if (issue.getStatus() != IssueStatus.RESOLVED)
+                duplicateDetector.add(issue.getId(), issue.getIssueType(), issue.getTitle(), issue.getDescription());
+            else
+                resolutionLatency.record(issue.getId(), issue.getIssueType(), issue.getAddress().getCity(), List.of(),
+                        issue.getReportedAt(), issue.getResolvedAt());
+        }
+        publicFeedCache.invalidate();
+        batch.clear();
+    }
+
+    private static void skip(ImportResponse result, String error) {
+        result.setSkipped(result.getSkipped() + 1);
+        addError(result, error);
+    }
+
+    private static void addError(ImportResponse result, String error) {
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS)
+            result.getErrors().add(error);
+    }
+}
@@ -0,0 +1,46 @@
+package com.citycare.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.citycare.backend.model.VerificationCode;
+import com.citycare.backend.repository.VerificationCodeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// Multi-node OTP store backed by the verification_code table
+@Component
+@ConditionalOnProperty(name = "citycare.otp.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaOtpStore implements OtpStore {
+
+    private final VerificationCodeRepository verificationRepo;
+
+    @Override
+    public void put(String email, String otp, Duration ttl) {
+        VerificationCode vc = verificationRepo.findByEmail(email);
+        if (vc == null) {
+            vc = new VerificationCode();
+            vc.setEmail(email);
+        }
+        vc.setOtp(otp);
+        vc.setExpiryTime(LocalDateTime.now().plus(ttl));
+        verificationRepo.save(vc);
+    }
+
+    @Override
+    public boolean consume(String email, String otp) {
+        if (otp == null)
+            return false;
+        return verificationRepo.consume(email, otp, LocalDateTime.now()) == 1;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        verificationRepo.deleteExpired(LocalDateTime.now());
+    }
+}
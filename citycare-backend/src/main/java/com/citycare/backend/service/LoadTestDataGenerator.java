@@ -0,0 +1,267 @@
+package com.citycare.backend.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.domain.USER_ROLE;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Synthetic data for the loadtest profile: citizens, technicians (with skills),
+// issues spread over a few cities, technician assignments and votes. Written
+// with JDBC batches into an empty database before the ApplicationReady
+// warm-ups run, so every index and counter starts from this data.
+// Accounts follow fixed patterns the load driver relies on:
+// citizen<n>@load.test, technician<n>@load.test, officer@load.test (n from 1).
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestDataGenerator implements CommandLineRunner {
+
+    public static final String EMAIL_DOMAIN = "@load.test";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] CITIES = { "Hyderabad", "Bengaluru", "Chennai", "Mumbai", "Pune", "Delhi" };
+    private static final double[][] CENTERS = { { 17.3850, 78.4867 }, { 12.9716, 77.5946 }, { 13.0827, 80.2707 },
+            { 19.0760, 72.8777 }, { 18.5204, 73.8567 }, { 28.6139, 77.2090 } };
+    private static final String[] WORDS = { "pothole", "streetlight", "garbage", "leak", "signal", "drain",
+            "footpath", "parking", "noise", "flooding", "broken", "overflowing", "near", "market", "school",
+            "junction", "bus", "stop", "main", "road" };
+
+    private final JdbcTemplate jdbc;
+    private final PasswordEncoder passwordEncoder;
+    private final int citizens;
+    private final int technicians;
+    private final int issues;
+    private final int votesPerIssue;
+    private final String password;
+    private final SplittableRandom random;
+
+    public LoadTestDataGenerator(JdbcTemplate jdbc, PasswordEncoder passwordEncoder,
+            @Value("${citycare.loadtest.citizens:2000}") int citizens,
+            @Value("${citycare.loadtest.technicians:100}") int technicians,
+            @Value("${citycare.loadtest.issues:20000}") int issues,
+            @Value("${citycare.loadtest.votes-per-issue:5}") int votesPerIssue,
+            @Value("${citycare.loadtest.password:loadtest}") String password,
+            @Value("${citycare.loadtest.seed:42}") long seed) {
+        this.jdbc = jdbc;
+        this.passwordEncoder = passwordEncoder;
+        this.citizens = citizens;
+        this.technicians = technicians;
+        this.issues = issues;
+        this.votesPerIssue = Math.min(votesPerIssue, citizens);
+        this.password = password;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Integer existing = jdbc.queryForObject("SELECT COUNT(*) FROM citizens", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("Load-test data not generated: the database already has citizens");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        // one hash for every account; BCrypt per row would dominate start-up
+        String hash = passwordEncoder.encode(password);
+
+        Long officerId = insertOfficer(hash);
+        List<Long> citizenIds = insertCitizens(hash);
+        List<Long> technicianIds = insertTechnicians(hash, officerId);
+        List<Long> issueIds = insertIssues(citizenIds);
+        int assignments = assignTechnicians(technicianIds);
+        int votes = insertVotes(issueIds, citizenIds);
+
+        log.info("Load-test data generated in {} ms: {} citizens, {} technicians, {} issues, {} assignments, {} votes",
+                System.currentTimeMillis() - start, citizenIds.size(), technicianIds.size(), issueIds.size(),
+                assignments, votes);
+    }
+
+    // ---------------- ACCOUNTS ----------------
+
+    private Long insertOfficer(String hash) {
+        jdbc.update("INSERT INTO officer (name, email, password, phone, role) VALUES (?, ?, ?, ?, ?)",
+                "Load Officer", "officer" + EMAIL_DOMAIN, hash, "9000000000", USER_ROLE.ROLE_OFFICER.name());
+        Long id = jdbc.queryForObject("SELECT id FROM officer WHERE email = ?", Long.class, "officer" + EMAIL_DOMAIN);
+        registerAccounts(List.of(id), "officer", USER_ROLE.ROLE_OFFICER, true);
+        return id;
+    }
+
+    private List<Long> insertCitizens(String hash) {
+        List<Object[]> rows = new ArrayList<>(citizens);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int n = 1; n <= citizens; n++) {
+            rows.add(new Object[] { "Citizen " + n, "citizen" + n + EMAIL_DOMAIN, hash, phone(n),
+                    USER_ROLE.ROLE_CITIZEN.name(), now, true });
+        }
+        batch("INSERT INTO citizens (name, email, password, phone, role, registered_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        List<Long> ids = jdbc.queryForList("SELECT id FROM citizens ORDER BY id", Long.class);
+        registerAccounts(ids, "citizen", USER_ROLE.ROLE_CITIZEN, false);
+        return ids;
+    }
+
+    private List<Long> insertTechnicians(String hash, Long officerId) {
+        List<Object[]> rows = new ArrayList<>(technicians);
+        for (int n = 1; n <= technicians; n++) {
+            rows.add(new Object[] { "Technician " + n, "technician" + n + EMAIL_DOMAIN, hash, phone(citizens + n),
+                    USER_ROLE.ROLE_TECHNICIAN.name(), officerId });
+        }
+        batch("INSERT INTO technician (name, email, password, phone, role, created_by_officer_id) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+        List<Long> ids = jdbc.queryForList("SELECT id FROM technician ORDER BY id", Long.class);
+
+        // one to three skills each
+        IssueType[] types = IssueType.values();
+        List<Object[]> skills = new ArrayList<>();
+        for (Long id : ids) {
+            Set<IssueType> picked = new HashSet<>();
+            int count = 1 + random.nextInt(3);
+            while (picked.size() < count)
+                picked.add(types[random.nextInt(types.length)]);
+            for (IssueType type : picked)
+                skills.add(new Object[] { id, type.name() });
+        }
+        batch("INSERT INTO technician_skills (technician_id, issue_type) VALUES (?, ?)", skills);
+        registerAccounts(ids, "technician", USER_ROLE.ROLE_TECHNICIAN, false);
+        return ids;
+    }
+
+    // user_directory rows written here so the startup backfill has nothing to add
+    private void registerAccounts(List<Long> ids, String prefix, USER_ROLE role, boolean single) {
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String email = prefix + (single ? "" : String.valueOf(i + 1)) + EMAIL_DOMAIN;
+            rows.add(new Object[] { email, role.name(), ids.get(i) });
+        }
+        batch("INSERT INTO user_directory (email, role, user_id) VALUES (?, ?, ?)", rows);
+    }
+
+    // ---------------- ISSUES ----------------
+
+    private List<Long> insertIssues(List<Long> citizenIds) {
+        List<Object[]> addresses = new ArrayList<>(issues);
+        for (int i = 0; i < issues; i++) {
+            int c = random.nextInt(CITIES.length);
+            // within roughly 5 km of the city centre
+            double lat = CENTERS[c][0] + (random.nextDouble() - 0.5) * 0.09;
+            double lon = CENTERS[c][1] + (random.nextDouble() - 0.5) * 0.09;
+            addresses.add(new Object[] { CITIES[c], "Locality " + random.nextInt(50), "Street " + random.nextInt(500),
+                    String.valueOf(500000 + random.nextInt(1000)), lat, lon });
+        }
+        batch("INSERT INTO address (city, locality, street_address, pin_code, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?)",
+                addresses);
+        List<Long> addressIds = jdbc.queryForList("SELECT id FROM address ORDER BY id", Long.class);
+
+        IssueType[] types = IssueType.values();
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(issues);
+        for (int i = 0; i < issues; i++) {
+            IssueStatus status = status();
+            LocalDateTime reportedAt = now.minusMinutes(random.nextInt(90 * 24 * 60));
+            LocalDateTime resolvedAt = status == IssueStatus.RESOLVED
+                    ? reportedAt.plusMinutes(30 + random.nextInt(14 * 24 * 60))
+                    : null;
+            if (resolvedAt != null && resolvedAt.isAfter(now))
+                resolvedAt = now;
+            rows.add(new Object[] { title(), sentence(12), types[random.nextInt(types.length)].name(), status.name(),
+                    Timestamp.valueOf(reportedAt), resolvedAt == null ? null : Timestamp.valueOf(resolvedAt),
+                    citizenIds.get(random.nextInt(citizenIds.size())), addressIds.get(i), 0L, 0L });
+        }
+        batch("INSERT INTO issue (title, description, issue_type, status, reported_at, resolved_at, citizen_id, address_id,"
+                + " upvote_count, downvote_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return jdbc.queryForList("SELECT id FROM issue ORDER BY id", Long.class);
+    }
+
+    // In-progress and resolved issues get one technician, some pending ones too,
+    // so every technician has a working set for status updates
+    private int assignTechnicians(List<Long> technicianIds) {
+        if (technicianIds.isEmpty())
+            return 0;
+        List<Object[]> statuses = jdbc.query("SELECT id, status FROM issue ORDER BY id",
+                (rs, i) -> new Object[] { rs.getLong(1), rs.getString(2) });
+        List<Object[]> rows = new ArrayList<>();
+        for (Object[] row : statuses) {
+            boolean pending = IssueStatus.PENDING.name().equals(row[1]);
+            if (!pending || random.nextInt(4) == 0)
+                rows.add(new Object[] { row[0], technicianIds.get(random.nextInt(technicianIds.size())) });
+        }
+        batch("INSERT INTO issue_technicians (issue_id, technician_id) VALUES (?, ?)", rows);
+        return rows.size();
+    }
+
+    // Up to 2 * votes-per-issue distinct citizens per issue, mostly upvotes.
+    // The vote counter's first flush copies the totals into issue.upvote_count.
+    private int insertVotes(List<Long> issueIds, List<Long> citizenIds) {
+        if (votesPerIssue <= 0)
+            return 0;
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int total = 0;
+        Set<Long> voters = new HashSet<>();
+        for (Long issueId : issueIds) {
+            voters.clear();
+            int count = random.nextInt(Math.min(2 * votesPerIssue, citizenIds.size()) + 1);
+            while (voters.size() < count)
+                voters.add(citizenIds.get(random.nextInt(citizenIds.size())));
+            for (Long citizenId : voters)
+                rows.add(new Object[] { random.nextInt(5) != 0, citizenId, issueId });
+            if (rows.size() >= BATCH_SIZE) {
+                total += rows.size();
+                batch("INSERT INTO vote (upvote, citizen_id, issue_id) VALUES (?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        total += rows.size();
+        batch("INSERT INTO vote (upvote, citizen_id, issue_id) VALUES (?, ?, ?)", rows);
+        return total;
+    }
+
+    // ---------------- HELPERS ----------------
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private IssueStatus status() {
+        int roll = random.nextInt(100);
+        if (roll < 60)
+            return IssueStatus.PENDING;
+        return roll < 85 ? IssueStatus.IN_PROGRESS : IssueStatus.RESOLVED;
+    }
+
+    private String title() {
+        String text = sentence(4);
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private String sentence(int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0)
+                sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String phone(int n) {
+        return String.valueOf(9_100_000_000L + n);
+    }
+}
@@ -0,0 +1,18 @@
+package com.citycare.backend.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Local/test stub: logs mails instead of sending them
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "citycare.email.transport", havingValue = "log")
+public class LogEmailTransport implements EmailTransport {
+
+    @Override
+    public void send(String recipient, String subject, String htmlContent) {
+        log.info("Email (not sent, log transport) to {}: {}", recipient, subject);
+    }
+}
@@ -0,0 +1,313 @@
+package com.citycare.backend.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Technician;
+import com.citycare.backend.repository.NotificationRepository;
+import com.citycare.backend.repository.VoteRepository;
+import com.citycare.backend.response.CursorPage;
+import com.citycare.backend.response.NotificationResponse;
+import com.citycare.backend.utils.CursorUtil;
+import com.citycare.backend.utils.TtlCache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Turns issue events into notification rows for the reporter, the assigned
+// technicians and the voters. Events are queued on the request thread and
+// written in JDBC batches by a scheduled flush; unread badges are served
+// from a per-user counter kept in step with those batches.
+@Slf4j
+@Service
+public class NotificationService {
+
+    // INSERT ... SELECT so events for an issue or technician deleted while
+    // queued insert nothing instead of failing the whole batch on a foreign key
+    private static final String INSERT_SQL = "INSERT INTO notification " +
+            "(message, timestamp, is_read, citizen_id, technician_id, issue_id) " +
+            "SELECT ?, ?, false, ?, ?, i.id FROM issue i WHERE i.id = ? " +
+            "AND (? IS NULL OR EXISTS (SELECT 1 FROM technician t WHERE t.id = ?))";
+
+    public record Recipient(Long citizenId, Long technicianId) {
+        String key() {
+            return citizenId != null ? "C" + citizenId : "T" + technicianId;
+        }
+    }
+
+    private final NotificationRepository notificationRepo;
+    private final VoteRepository voteRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<IssueEvent> pending;
+    private final TtlCache<String, AtomicLong> unreadCounts;
+    private final int batchSize;
+    // Striped by recipient key and by issue: a batch holds the stripes of every
+    // recipient and issue it touches while it is written and counted, so a
+    // recipient's count load or reset, or an issue's delete, never falls between
+    // the insert and its count update; other users are not held up. Stripes are
+    // taken in index order, so a batch and a single-key holder cannot deadlock.
+    // Locks rather than monitors: everything under them blocks on JDBC.
+    private static final int LOCK_STRIPES = 64;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public NotificationService(NotificationRepository notificationRepo, VoteRepository voteRepo,
+            JdbcTemplate jdbcTemplate,
+            @Value("${citycare.notifications.queue-capacity:10000}") int queueCapacity,
+            @Value("${citycare.notifications.batch-size:200}") int batchSize,
+            @Value("${citycare.notifications.unread-cache.max-size:10000}") int unreadCacheSize,
+            @Value("${citycare.notifications.unread-cache.ttl-seconds:600}") long unreadCacheTtlSeconds) {
+        this.notificationRepo = notificationRepo;
+        this.voteRepo = voteRepo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.unreadCounts = new TtlCache<>(unreadCacheSize, unreadCacheTtlSeconds * 1000);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // ---------------- FAN-OUT ----------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (!pending.offer(event))
+            log.warn("Notification queue full, dropping {} for issue {}", event.type(), event.issueId());
+    }
+
+    @Scheduled(fixedDelayString = "${citycare.notifications.flush-interval-ms:1000}")
+    public void flush() {
+        List<IssueEvent> events = new ArrayList<>(batchSize);
+        while (pending.drainTo(events, batchSize) > 0) {
+            List<Object[]> rows = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            boolean[] stripes = new boolean[LOCK_STRIPES];
+            for (IssueEvent event : events) {
+                stripes[stripe(issueKey(event.issueId()))] = true;
+                for (Map.Entry<Recipient, String> n : notificationsFor(event).entrySet()) {
+                    Recipient r = n.getKey();
+                    rows.add(new Object[] { n.getValue(), Timestamp.valueOf(event.at()), r.citizenId(),
+                            r.technicianId(), event.issueId(), r.technicianId(), r.technicianId() });
+                    keys.add(r.key());
+                    stripes[stripe(r.key())] = true;
+                }
+            }
+            events.clear();
+            if (rows.isEmpty())
+                continue;
+            lockStripes(stripes);
+            try {
+                int[] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                for (int i = 0; i < inserted.length; i++) {
+                    // 0: the issue or technician is gone; SUCCESS_NO_INFO counts as written
+                    AtomicLong count = inserted[i] == 0 ? null : unreadCounts.get(keys.get(i));
+                    if (count != null)
+                        count.incrementAndGet();
+                }
+            } catch (DataAccessException e) {
+                log.error("Failed to write {} notifications", rows.size(), e);
+            } finally {
+                unlockStripes(stripes);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Recipient, String> notificationsFor(IssueEvent event) {
+        Map<Recipient, String> out = new HashMap<>();
+        String title = "\"" + event.title() + "\"";
+        Recipient reporter = new Recipient(event.citizenId(), null);
+        switch (event.type()) {
+            case CREATED -> {
+                out.put(reporter, "Your issue " + title + " has been reported");
+                for (Long techId : event.technicianIds()) {
+                    out.put(new Recipient(null, techId), "You have been assigned to " + title);
+                }
+            }
+            case ASSIGNED -> {
+                if (!event.technicianIds().isEmpty())
+                    out.put(reporter, "A technician has been assigned to your issue " + title);
+                for (Long techId : event.technicianIds()) {
+                    out.put(new Recipient(null, techId), "You have been assigned to " + title);
+                }
+            }
+            case STATUS_CHANGED -> {
+                out.put(reporter, "Your issue " + title + " is now " + event.status());
+                Set<Long> voters = new LinkedHashSet<>(voteRepo.findCitizenIdsByIssueId(event.issueId()));
+                voters.remove(event.citizenId());
+                for (Long voterId : voters) {
+                    out.put(new Recipient(voterId, null), "An issue you voted on, " + title + ", is now " + event.status());
+                }
+            }
+            case VOTED -> {
+                if (!event.citizenId().equals(event.actorId()))
+                    out.put(reporter, "Your issue " + title + " received a new vote");
+            }
+        }
+        return out;
+    }
+
+    // ---------------- READ ----------------
+    public Recipient recipientOf(Object user) throws Exception {
+        if (user instanceof Citizen citizen)
+            return new Recipient(citizen.getId(), null);
+        if (user instanceof Technician tech)
+            return new Recipient(null, tech.getId());
+        throw new Exception("Notifications are only available to citizens and technicians");
+    }
+
+    public CursorPage<NotificationResponse> getNotifications(Recipient r, boolean unreadOnly, String cursor,
+            Integer size) throws Exception {
+        int pageSize = CursorUtil.pageSize(size);
+        Long cursorId;
+        try {
+            cursorId = cursor == null || cursor.isEmpty() ? null : Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new Exception("Invalid cursor");
+        }
+
+        List<NotificationResponse> rows = notificationRepo.findPage(r.citizenId(), r.technicianId(), unreadOnly,
+                cursorId, Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize)
+            return new CursorPage<>(rows, null);
+        List<NotificationResponse> page = rows.subList(0, pageSize);
+        return new CursorPage<>(page, String.valueOf(page.get(pageSize - 1).getId()));
+    }
+
+    public long getUnreadCount(Recipient r) {
+        AtomicLong count = unreadCounts.get(r.key());
+        if (count == null)
+            count = loadUnreadCount(r);
+        return Math.max(count.get(), 0);
+    }
+
+    // under the recipient's stripe: a batch is either in the loaded count or
+    // added to it afterwards, never both
+    private AtomicLong loadUnreadCount(Recipient r) {
+        ReentrantLock lock = lock(r.key());
+        lock.lock();
+        try {
+            AtomicLong count = unreadCounts.get(r.key());
+            if (count == null) {
+                count = new AtomicLong(notificationRepo.countUnread(r.citizenId(), r.technicianId()));
+                unreadCounts.put(r.key(), count);
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------------- MARK READ ----------------
+    public void markRead(Recipient r, Long notificationId) {
+        if (notificationRepo.markRead(notificationId, r.citizenId(), r.technicianId()) == 0)
+            return;
+        AtomicLong count = unreadCounts.get(r.key());
+        if (count != null)
+            count.decrementAndGet();
+    }
+
+    public void markAllRead(Recipient r) {
+        ReentrantLock lock = lock(r.key());
+        lock.lock();
+        try {
+            notificationRepo.markAllRead(r.citizenId(), r.technicianId());
+            unreadCounts.put(r.key(), new AtomicLong());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------------- CLEAN-UP ----------------
+    // Removes the issue's notifications, then the issue itself (deleteIssue),
+    // with no batch in between that could insert a row referencing it. Only the
+    // recipients that had unread notifications for it lose their cached count.
+    public void deleteIssue(Long issueId, Runnable deleteIssue) {
+        List<Recipient> affected = new ArrayList<>();
+        ReentrantLock lock = lock(issueKey(issueId));
+        lock.lock();
+        try {
+            for (Object[] row : notificationRepo.findUnreadRecipientsByIssueId(issueId)) {
+                affected.add(new Recipient((Long) row[0], (Long) row[1]));
+            }
+            notificationRepo.deleteByIssueId(issueId);
+            deleteIssue.run();
+        } finally {
+            lock.unlock();
+        }
+        // reloaded lazily; dropped under each recipient's stripe so a load that
+        // read the rows before the delete cannot put its count back afterwards
+        for (Recipient r : affected) {
+            ReentrantLock recipientLock = lock(r.key());
+            recipientLock.lock();
+            try {
+                unreadCounts.remove(r.key());
+            } finally {
+                recipientLock.unlock();
+            }
+        }
+    }
+
+    // batches writing to this technician hold its stripe, so none lands in between
+    public void deleteTechnician(Long technicianId, Runnable deleteTechnician) {
+        String key = new Recipient(null, technicianId).key();
+        ReentrantLock lock = lock(key);
+        lock.lock();
+        try {
+            notificationRepo.deleteByTechnicianId(technicianId);
+            unreadCounts.remove(key);
+            deleteTechnician.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------------- LOCKS ----------------
+    private static String issueKey(Long issueId) {
+        return "I" + issueId;
+    }
+
+    private static int stripe(String key) {
+        return Math.floorMod(key.hashCode(), LOCK_STRIPES);
+    }
+
+    private ReentrantLock lock(String key) {
+        return locks[stripe(key)];
+    }
+
+    private void lockStripes(boolean[] stripes) {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            if (stripes[i])
+                locks[i].lock();
+        }
+    }
+
+    private void unlockStripes(boolean[] stripes) {
+        for (int i = LOCK_STRIPES - 1; i >= 0; i--) {
+            if (stripes[i])
+                locks[i].unlock();
+        }
+    }
+}
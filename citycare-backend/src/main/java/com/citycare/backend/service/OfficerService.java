@@ -25,6 +25,10 @@ public class OfficerService {
     private final TechnicianRepository technicianRepo;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final PrincipalCache principalCache;
+    private final UserDirectoryService userDirectory;
+    private final TechnicianAssignmentEngine assignmentEngine;
+    private final NotificationService notificationService;
 
     // ---------------- CREATE TECHNICIAN ----------------
 
@@ -47,6 +51,8 @@ public class OfficerService {
 
         // Save technician
         Technician savedTech = technicianRepo.save(technician);
+        userDirectory.register(savedTech.getEmail(), USER_ROLE.ROLE_TECHNICIAN, savedTech.getId());
+        assignmentEngine.upsertTechnician(savedTech.getId(), savedTech.getSkills());
 
         // No need to modify officer.getCreatedTechnicians() manually
 
@@ -71,11 +77,15 @@ public class OfficerService {
     public Officer updateOfficer(Long officerId, OfficerRequest req) throws Exception {
         Officer officer = officerRepo.findById(officerId)
                 .orElseThrow(() -> new Exception("Officer not found"));
+        principalCache.invalidate(officer.getEmail());
+        String oldEmail = officer.getEmail();
 
         officer.setName(req.getName());
         officer.setEmail(req.getEmail());
         officer.setPhone(req.getPhone());
-        return officerRepo.save(officer);
+        Officer saved = officerRepo.save(officer);
+        userDirectory.changeEmail(oldEmail, saved.getEmail(), USER_ROLE.ROLE_OFFICER, saved.getId());
+        return saved;
     }
 
     // ---------------- UPDATE OFFICER PASSWORD ----------------
@@ -95,6 +105,9 @@ public class OfficerService {
     public void deleteTechnician(Long technicianId) throws Exception {
         Technician tech = technicianRepo.findById(technicianId)
                 .orElseThrow(() -> new Exception("Technician not found"));
-        technicianRepo.delete(tech);
+        notificationService.deleteTechnician(tech.getId(), () -> technicianRepo.delete(tech));
+        principalCache.invalidate(tech.getEmail());
+        userDirectory.remove(tech.getEmail(), USER_ROLE.ROLE_TECHNICIAN, tech.getId());
+        assignmentEngine.removeTechnician(tech.getId());
     }
 }
@@ -0,0 +1,13 @@
+package com.citycare.backend.service;
+
+import java.time.Duration;
+
+// Where one-time passwords live between "send OTP" and signup / login
+public interface OtpStore {
+
+    // replaces any code already issued for this email
+    void put(String email, String otp, Duration ttl);
+
+    // true if the code matches and has not expired; a matching code is used up
+    boolean consume(String email, String otp);
+}
@@ -0,0 +1,37 @@
+package com.citycare.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.citycare.backend.domain.USER_ROLE;
+import com.citycare.backend.utils.TtlCache;
+
+// email -> (role, id) of the account behind a token. Entities themselves are not
+// cached: they are reloaded by primary key so lazy collections stay usable.
+@Component
+public class PrincipalCache {
+
+    public record Principal(USER_ROLE role, Long id) {
+    }
+
+    private final TtlCache<String, Principal> cache;
+
+    public PrincipalCache(@Value("${citycare.principal-cache.max-size:10000}") int maxSize,
+            @Value("${citycare.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new TtlCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    public Principal get(String email) {
+        return email == null ? null : cache.get(email);
+    }
+
+    public void put(String email, USER_ROLE role, Long id) {
+        if (email != null && role != null && id != null)
+            cache.put(email, new Principal(role, id));
+    }
+
+    public void invalidate(String email) {
+        if (email != null)
+            cache.remove(email);
+    }
+}
@@ -0,0 +1,155 @@
+package com.citycare.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.response.CursorPage;
+import com.citycare.backend.utils.TtlCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Serialized snapshots of the public issue listings, one per endpoint and
+// filter/cursor combination. Versions are kept per city: an issue or vote
+// event bumps its city's version and the version of the unfiltered listings,
+// so listings of other cities stay cached. A snapshot is served only while the
+// versions it was built under are current, otherwise it is rebuilt on the next
+// read. The JSON and its gzip encoding are kept as bytes so a hit costs no
+// query and no serialization.
+@Component
+public class PublicFeedCache {
+
+    private static final int LOCK_STRIPES = 64;
+
+    public record Snapshot(long version, String etag, byte[] json, byte[] gzip, String nextCursor) {
+
+        // strong validators must differ per content-coding
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+
+    @FunctionalInterface
+    public interface PageLoader {
+        CursorPage<?> load() throws Exception;
+    }
+
+    // bumped by invalidate() (bulk writes); part of every snapshot's version
+    private final AtomicLong globalVersion = new AtomicLong();
+    // bumped by every event; listings without a city filter
+    private final AtomicLong anyCityVersion = new AtomicLong();
+    private final Map<String, AtomicLong> cityVersions = new ConcurrentHashMap<>();
+    private final TtlCache<String, Snapshot> snapshots;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final ObjectMapper objectMapper;
+
+    public PublicFeedCache(ObjectMapper objectMapper,
+            @Value("${citycare.feed-cache.max-size:1000}") int maxSize,
+            @Value("${citycare.feed-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.snapshots = new TtlCache<>(maxSize, ttlSeconds * 1000);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // city: the listing's city filter, null when it lists every city
+    public Snapshot get(String key, String city, PageLoader loader) throws Exception {
+        Snapshot snapshot = current(key, city);
+        if (snapshot != null)
+            return snapshot;
+        // one rebuild per key at a time; concurrent readers wait for it. A lock
+        // rather than a monitor: the loader blocks on JDBC, which would pin a
+        // virtual thread to its carrier inside synchronized
+        ReentrantLock lock = locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            snapshot = current(key, city);
+            if (snapshot != null)
+                return snapshot;
+            // read the version before querying: a write committed meanwhile
+            // leaves this snapshot stale rather than hiding the write
+            long v = version(city);
+            CursorPage<?> page = loader.load();
+            byte[] json = objectMapper.writeValueAsBytes(page.getItems());
+            snapshot = new Snapshot(v, etag(json), json, gzip(json), page.getNextCursor());
+            snapshots.put(key, snapshot);
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // every listing, e.g. after an import touching many cities
+    public void invalidate() {
+        globalVersion.incrementAndGet();
+    }
+
+    // after commit, so a rebuild can never capture the pre-write state under the new version
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.city() == null) {
+            invalidate();
+            return;
+        }
+        cityVersions.computeIfAbsent(cityKey(event.city()), c -> new AtomicLong()).incrementAndGet();
+        anyCityVersion.incrementAndGet();
+    }
+
+    // The listing queries compare a.city = :city under MySQL's case-insensitive
+    // collation, so "pune", " Pune" and "Pune" are one listing; versions and
+    // cache keys use this form
+    public static String cityKey(String city) {
+        return city == null ? null : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // If-None-Match may list several tags or "*"; weak comparison applies
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null)
+            return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/"))
+                tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag))
+                return true;
+        }
+        return false;
+    }
+
+    private Snapshot current(String key, String city) {
+        Snapshot snapshot = snapshots.get(key);
+        return snapshot != null && snapshot.version() == version(city) ? snapshot : null;
+    }
+
+    // both parts only grow, so the sum changes whenever either is bumped
+    private long version(String city) {
+        AtomicLong scoped = city == null ? anyCityVersion : cityVersions.get(cityKey(city));
+        return globalVersion.get() + (scoped == null ? 0 : scoped.get());
+    }
+
+    // content hash, so a rebuild that produces the same bytes keeps the same tag
+    private static String etag(byte[] json) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,173 @@
+package com.citycare.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueResolvedEvent;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.response.LatencySummaryResponse;
+import com.citycare.backend.response.ResolutionLatencyResponse;
+import com.citycare.backend.utils.LatencyHistogram;
+
+// Report-to-resolution times per issue type, city and technician, kept in
+// fixed-size histograms (seconds). Loaded from resolved issues on startup and
+// fed by every committed transition to RESOLVED; an issue that is reopened and
+// resolved again is counted for each resolution until the next restart.
+@Component
+public class ResolutionLatency {
+
+    private static final int LOAD_BATCH = 1000;
+    // a resolution this old when the load starts may still commit during it
+    private static final Duration RECENT = Duration.ofMinutes(1);
+
+    private record Sample(Long issueId, IssueType type, String city, List<Long> technicianIds,
+            LocalDateTime resolvedAt, long seconds) {
+    }
+
+    private final IssueRepository issueRepo;
+
+    private volatile Map<IssueType, LatencyHistogram> byType = new ConcurrentHashMap<>();
+    private volatile Map<String, LatencyHistogram> byCity = new ConcurrentHashMap<>();
+    private volatile Map<Long, LatencyHistogram> byTechnician = new ConcurrentHashMap<>();
+    // guarded by this
+    private List<Sample> replay;
+
+    public ResolutionLatency(IssueRepository issueRepo) {
+        this.issueRepo = issueRepo;
+    }
+
+    // ---------------- WARM UP ----------------
+    // Resolutions recorded while the table is read are replayed onto the fresh
+    // histograms before the swap, unless the load already read that resolution
+    // (same issue, same resolvedAt); only recent rows are kept for that check.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            replay = new ArrayList<>();
+        }
+        LocalDateTime recentFrom = LocalDateTime.now().minus(RECENT);
+        Map<Long, LocalDateTime> recent = new HashMap<>();
+        Map<IssueType, LatencyHistogram> types = new ConcurrentHashMap<>();
+        Map<String, LatencyHistogram> cities = new ConcurrentHashMap<>();
+        Map<Long, LatencyHistogram> technicians = new ConcurrentHashMap<>();
+        try {
+            Long afterId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = issueRepo.findResolutionRowsAfter(afterId, Limit.of(LOAD_BATCH));
+                if (rows.isEmpty())
+                    break;
+                Map<Long, List<Long>> techIds = new HashMap<>();
+                List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+                for (Object[] pair : issueRepo.findTechnicianIdsByIssueIdIn(ids)) {
+                    techIds.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((Long) pair[1]);
+                }
+                for (Object[] row : rows) {
+                    afterId = (Long) row[0];
+                    LocalDateTime resolvedAt = (LocalDateTime) row[4];
+                    if (resolvedAt.isAfter(recentFrom))
+                        recent.put(afterId, resolvedAt);
+                    record(types, cities, technicians, (IssueType) row[1], (String) row[2],
+                            techIds.getOrDefault(afterId, List.of()), seconds((LocalDateTime) row[3], resolvedAt));
+                }
+            } while (rows.size() == LOAD_BATCH);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                replay = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (Sample s : replay) {
+                if (!sameInstant(recent.get(s.issueId()), s.resolvedAt()))
+                    record(types, cities, technicians, s.type(), s.city(), s.technicianIds(), s.seconds());
+            }
+            replay = null;
+            byType = types;
+            byCity = cities;
+            byTechnician = technicians;
+        }
+    }
+
+    // ---------------- RECORD ----------------
+    // after commit, so a rolled-back resolution is never counted
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueResolved(IssueResolvedEvent event) {
+        record(event.issueId(), event.issueType(), event.city(), event.technicianIds(), event.reportedAt(),
+                event.resolvedAt());
+    }
+
+    public synchronized void record(Long issueId, IssueType type, String city, Collection<Long> technicianIds,
+            LocalDateTime reportedAt, LocalDateTime resolvedAt) {
+        if (reportedAt == null || resolvedAt == null)
+            return;
+        Sample sample = new Sample(issueId, type, city, List.copyOf(technicianIds), resolvedAt,
+                seconds(reportedAt, resolvedAt));
+        record(byType, byCity, byTechnician, type, city, sample.technicianIds(), sample.seconds());
+        if (replay != null)
+            replay.add(sample);
+    }
+
+    private static void record(Map<IssueType, LatencyHistogram> types, Map<String, LatencyHistogram> cities,
+            Map<Long, LatencyHistogram> technicians, IssueType type, String city, Collection<Long> technicianIds,
+            long seconds) {
+        if (type != null)
+            types.computeIfAbsent(type, t -> new LatencyHistogram()).record(seconds);
+        cities.computeIfAbsent(cityKey(city), c -> new LatencyHistogram()).record(seconds);
+        for (Long techId : technicianIds) {
+            technicians.computeIfAbsent(techId, t -> new LatencyHistogram()).record(seconds);
+        }
+    }
+
+    // ---------------- READ ----------------
+    // overall is the merge of the per-type histograms
+    public ResolutionLatencyResponse getReport() {
+        LatencyHistogram overall = new LatencyHistogram();
+        List<LatencySummaryResponse> types = new ArrayList<>();
+        byType.forEach((type, histogram) -> {
+            overall.merge(histogram);
+            types.add(summary(type.name(), histogram));
+        });
+        List<LatencySummaryResponse> cities = new ArrayList<>();
+        byCity.forEach((city, histogram) -> cities.add(summary(city, histogram)));
+        List<LatencySummaryResponse> technicians = new ArrayList<>();
+        byTechnician.forEach((techId, histogram) -> technicians.add(summary(String.valueOf(techId), histogram)));
+
+        types.sort((a, b) -> a.getKey().compareTo(b.getKey()));
+        cities.sort((a, b) -> a.getKey().compareTo(b.getKey()));
+        technicians.sort((a, b) -> Long.compare(Long.parseLong(a.getKey()), Long.parseLong(b.getKey())));
+        return new ResolutionLatencyResponse(summary("ALL", overall), types, cities, technicians);
+    }
+
+    private static LatencySummaryResponse summary(String key, LatencyHistogram histogram) {
+        return new LatencySummaryResponse(key, histogram.getCount(), histogram.percentile(50),
+                histogram.percentile(90), histogram.percentile(99), histogram.getMax());
+    }
+
+    private static long seconds(LocalDateTime reportedAt, LocalDateTime resolvedAt) {
+        return Math.max(0, Duration.between(reportedAt, resolvedAt).getSeconds());
+    }
+
+    // the column may have dropped the fraction of a second the event carries
+    private static boolean sameInstant(LocalDateTime loaded, LocalDateTime recorded) {
+        return loaded != null && Math.abs(Duration.between(loaded, recorded).toMillis()) < 1000;
+    }
+
+    private static String cityKey(String city) {
+        return city == null || city.isBlank() ? IssueStats.UNKNOWN_CITY : city.trim();
+    }
+}
@@ -0,0 +1,236 @@
+package com.citycare.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.TechnicianRepository;
+
+// In-memory candidate index for technician assignment. Eligible technicians
+// are those skilled in the issue type; among them the lowest score wins:
+//   score = openIssues * loadWeight + distanceKm * distanceWeightPerKm
+// Location is the technician's own address, else the centre of their open work.
+@Component
+public class TechnicianAssignmentEngine {
+
+    private static final double UNKNOWN_DISTANCE_KM = 10;
+
+    private static final class Candidate {
+        final Long id;
+        volatile Set<IssueType> skills;
+        volatile double lat = Double.NaN;
+        volatile double lon = Double.NaN;
+        final AtomicInteger openIssues = new AtomicInteger();
+
+        Candidate(Long id, Set<IssueType> skills) {
+            this.id = id;
+            this.skills = skills;
+        }
+    }
+
+    // candidates by id plus the ids per skill; reads are lock-free, changes go
+    // through apply()
+    private static final class Index {
+        final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+        final Map<IssueType, Set<Long>> bySkill = new ConcurrentHashMap<>();
+
+        void upsert(Long techId, Set<IssueType> skills) {
+            Candidate c = candidates.computeIfAbsent(techId, id -> new Candidate(id, skills));
+            unlist(c);
+            c.skills = skills;
+            for (IssueType type : skills) {
+                bySkill.computeIfAbsent(type, t -> ConcurrentHashMap.newKeySet()).add(techId);
+            }
+        }
+
+        void remove(Long techId) {
+            Candidate c = candidates.remove(techId);
+            if (c != null)
+                unlist(c);
+        }
+
+        void adjustLoad(Collection<Long> techIds, int delta) {
+            for (Long id : techIds) {
+                Candidate c = candidates.get(id);
+                if (c != null)
+                    c.openIssues.updateAndGet(n -> Math.max(n + delta, 0));
+            }
+        }
+
+        private void unlist(Candidate c) {
+            for (IssueType type : c.skills) {
+                Set<Long> ids = bySkill.get(type);
+                if (ids != null)
+                    ids.remove(c.id);
+            }
+        }
+    }
+
+    private final TechnicianRepository techRepo;
+    private final double loadWeight;
+    private final double distanceWeightPerKm;
+
+    private volatile Index index = new Index();
+    // changes made while load() reads the tables; guarded by this
+    private List<Consumer<Index>> replay;
+
+    public TechnicianAssignmentEngine(TechnicianRepository techRepo,
+            @Value("${citycare.assignment.load-weight:1.0}") double loadWeight,
+            @Value("${citycare.assignment.distance-weight-per-km:0.2}") double distanceWeightPerKm) {
+        this.techRepo = techRepo;
+        this.loadWeight = loadWeight;
+        this.distanceWeightPerKm = distanceWeightPerKm;
+    }
+
+    // ---------------- LOAD / RECONCILE ----------------
+    // Rebuilt on startup and periodically, so drift in the incremental load
+    // counts (e.g. a rolled-back assignment) does not accumulate. Changes that
+    // arrive while the tables are read are replayed onto the fresh index before
+    // the swap, so a technician added meanwhile is not lost; a load delta whose
+    // transaction the read already saw is counted twice until the next reconcile.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${citycare.assignment.reconcile-interval-ms:300000}",
+            initialDelayString = "${citycare.assignment.reconcile-interval-ms:300000}")
+    public void load() {
+        synchronized (this) {
+            replay = new ArrayList<>();
+        }
+        Index fresh = new Index();
+        try {
+            Map<Long, Set<IssueType>> skills = new HashMap<>();
+            for (Object[] row : techRepo.findAllSkills()) {
+                skills.computeIfAbsent((Long) row[0], id -> EnumSet.noneOf(IssueType.class))
+                        .add((IssueType) row[1]);
+            }
+            skills.forEach(fresh::upsert);
+
+            for (Object[] row : techRepo.findOpenLoad()) {
+                Candidate c = fresh.candidates.get((Long) row[0]);
+                if (c == null)
+                    continue;
+                c.openIssues.set(((Long) row[1]).intValue());
+                if (row[2] != null && row[3] != null) {
+                    c.lat = (Double) row[2];
+                    c.lon = (Double) row[3];
+                }
+            }
+            // a technician's own address wins over where they happen to be working
+            for (Object[] row : techRepo.findAllHomeLocations()) {
+                Candidate c = fresh.candidates.get((Long) row[0]);
+                if (c != null) {
+                    c.lat = (Double) row[1];
+                    c.lon = (Double) row[2];
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                replay = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (Consumer<Index> change : replay) {
+                change.accept(fresh);
+            }
+            replay = null;
+            index = fresh;
+        }
+    }
+
+    private synchronized void apply(Consumer<Index> change) {
+        change.accept(index);
+        if (replay != null)
+            replay.add(change);
+    }
+
+    // ---------------- TECHNICIAN CHANGES ----------------
+    public void upsertTechnician(Long techId, Set<IssueType> skills) {
+        Set<IssueType> newSkills = skills == null || skills.isEmpty() ? EnumSet.noneOf(IssueType.class)
+                : EnumSet.copyOf(skills);
+        apply(i -> i.upsert(techId, newSkills));
+    }
+
+    public void removeTechnician(Long techId) {
+        apply(i -> i.remove(techId));
+    }
+
+    // ---------------- LOAD TRACKING ----------------
+    // Creates and deletes count after commit, so a rolled-back create does not
+    // load its technicians; a delete's event lists none for a resolved issue.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.type() == IssueEventType.CREATED && event.status() != IssueStatus.RESOLVED)
+            onAssigned(event.technicianIds());
+        else if (event.type() == IssueEventType.DELETED)
+            onReleased(event.technicianIds());
+    }
+
+    public void onAssigned(Collection<Long> techIds) {
+        List<Long> ids = List.copyOf(techIds);
+        apply(i -> i.adjustLoad(ids, 1));
+    }
+
+    public void onReleased(Collection<Long> techIds) {
+        List<Long> ids = List.copyOf(techIds);
+        apply(i -> i.adjustLoad(ids, -1));
+    }
+
+    // ---------------- SCORING ----------------
+    // Best-first technician ids for an issue of this type at (lat, lon)
+    public List<Long> recommend(IssueType type, Double lat, Double lon, int limit) {
+        Index current = index;
+        Set<Long> eligible = type == null ? null : current.bySkill.get(type);
+        if (eligible == null || eligible.isEmpty())
+            return List.of();
+
+        List<double[]> scored = new ArrayList<>(eligible.size()); // {score, openIssues, techId}
+        for (Long id : eligible) {
+            Candidate c = current.candidates.get(id);
+            if (c == null)
+                continue;
+            int open = c.openIssues.get();
+            scored.add(new double[] { open * loadWeight + distanceKm(c, lat, lon) * distanceWeightPerKm, open, id });
+        }
+        scored.sort(Comparator.<double[]>comparingDouble(s -> s[0])
+                .thenComparingDouble(s -> s[1])
+                .thenComparingDouble(s -> s[2]));
+
+        List<Long> ids = new ArrayList<>(Math.min(scored.size(), limit));
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            ids.add((long) scored.get(i)[2]);
+        }
+        return ids;
+    }
+
+    public Long pickBest(IssueType type, Double lat, Double lon) {
+        List<Long> best = recommend(type, lat, lon, 1);
+        return best.isEmpty() ? null : best.get(0);
+    }
+
+    private static double distanceKm(Candidate c, Double lat, Double lon) {
+        double cLat = c.lat, cLon = c.lon;
+        if (lat == null || lon == null || Double.isNaN(cLat) || Double.isNaN(cLon))
+            return UNKNOWN_DISTANCE_KM;
+        return IssueSpatialIndex.distanceMeters(lat, lon, cLat, cLon) / 1000;
+    }
+}
@@ -22,6 +22,9 @@ public class TechnicianService {
     private final TechnicianRepository technicianRepo;
     private final OfficerRepository officerRepo;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final UserDirectoryService userDirectory;
+    private final TechnicianAssignmentEngine assignmentEngine;
 
     
 
@@ -35,6 +38,8 @@ public class TechnicianService {
     public Technician updateTechnician(Long technicianId, TechnicianRequest req) throws Exception {
         Technician tech = technicianRepo.findById(technicianId)
                 .orElseThrow(() -> new Exception("Technician not found"));
+        principalCache.invalidate(tech.getEmail());
+        String oldEmail = tech.getEmail();
 
         if(req.getName() != null) tech.setName(req.getName());
         if(req.getEmail() != null) tech.setEmail(req.getEmail());
@@ -42,7 +47,10 @@ public class TechnicianService {
         if(req.getSkills() != null) tech.setSkills(req.getSkills());
         if(req.getPassword() != null) tech.setPassword(passwordEncoder.encode(req.getPassword()));
 
-        return technicianRepo.save(tech);
+        Technician saved = technicianRepo.save(tech);
+        userDirectory.changeEmail(oldEmail, saved.getEmail(), USER_ROLE.ROLE_TECHNICIAN, saved.getId());
+        assignmentEngine.upsertTechnician(saved.getId(), saved.getSkills());
+        return saved;
     }
 
     // ---------------- UPDATE TECHNICIAN PASSWORD ----------------
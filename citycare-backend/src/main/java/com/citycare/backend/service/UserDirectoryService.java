@@ -0,0 +1,188 @@
+package com.citycare.backend.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.citycare.backend.domain.USER_ROLE;
+import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Head;
+import com.citycare.backend.model.Officer;
+import com.citycare.backend.model.Technician;
+import com.citycare.backend.model.UserDirectory;
+import com.citycare.backend.repository.CitizenRepository;
+import com.citycare.backend.repository.HeadRepository;
+import com.citycare.backend.repository.OfficerRepository;
+import com.citycare.backend.repository.TechnicianRepository;
+import com.citycare.backend.repository.UserDirectoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// Resolves an email to its account with one indexed lookup in user_directory
+// plus one primary-key fetch, instead of probing all four user tables.
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryService {
+
+    private final UserDirectoryRepository directoryRepo;
+    private final CitizenRepository citizenRepo;
+    private final TechnicianRepository technicianRepo;
+    private final OfficerRepository officerRepo;
+    private final HeadRepository headRepo;
+
+    // ---------------- BACKFILL ON STARTUP ----------------
+    // Adds accounts created before the directory existed. Same precedence as
+    // the old lookup when an email exists in several tables: citizen first.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Set<String> known = new HashSet<>(directoryRepo.findAllEmails());
+        backfill(known, citizenRepo.findAllIdAndEmail(), USER_ROLE.ROLE_CITIZEN);
+        backfill(known, technicianRepo.findAllIdAndEmail(), USER_ROLE.ROLE_TECHNICIAN);
+        backfill(known, officerRepo.findAllIdAndEmail(), USER_ROLE.ROLE_OFFICER);
+        backfill(known, headRepo.findAllIdAndEmail(), USER_ROLE.ROLE_HEAD);
+    }
+
+    private void backfill(Set<String> known, List<Object[]> rows, USER_ROLE role) {
+        for (Object[] row : rows) {
+            String email = (String) row[1];
+            if (email != null && known.add(email))
+                directoryRepo.save(new UserDirectory(null, email, role, (Long) row[0]));
+        }
+    }
+
+    // ---------------- MAINTENANCE ----------------
+    public void register(String email, USER_ROLE role, Long userId) {
+        if (email == null || userId == null)
+            return;
+        if (directoryRepo.findByEmail(email) != null)
+            return;
+        try {
+            directoryRepo.save(new UserDirectory(null, email, role, userId));
+        } catch (DataIntegrityViolationException e) {
+            // another request registered the same email first; the unique index keeps one row
+        }
+    }
+
+    public void changeEmail(String oldEmail, String newEmail, USER_ROLE role, Long userId) {
+        if (newEmail == null || newEmail.equals(oldEmail))
+            return;
+        remove(oldEmail, role, userId);
+        register(newEmail, role, userId);
+    }
+
+    public void remove(String email, USER_ROLE role, Long userId) {
+        if (email == null)
+            return;
+        UserDirectory entry = directoryRepo.findByEmail(email);
+        if (entry != null && entry.getRole() == role && entry.getUserId().equals(userId))
+            directoryRepo.delete(entry);
+    }
+
+    // ---------------- LOOKUP ----------------
+    // roleHint (e.g. from a JWT) is only used when the directory has no entry
+    public Object findUserByEmail(String email, USER_ROLE roleHint) {
+        UserDirectory entry = directoryRepo.findByEmail(email);
+        if (entry != null) {
+            Object user = findUserById(entry.getRole(), entry.getUserId());
+            if (user != null)
+                return user;
+            directoryRepo.delete(entry); // stale row
+        }
+
+        Object user = roleHint != null ? findByEmail(roleHint, email) : null;
+        if (user == null)
+            user = findByEmailInAnyRole(email);
+        if (user != null)
+            register(email, roleOf(user), idOf(user));
+        return user;
+    }
+
+    // For logins that name their role (tech_/off_/head_ prefix): the same email
+    // may exist in several tables, and the directory only remembers one of them
+    public Object findUserByEmailInRole(String email, USER_ROLE role) {
+        return findByEmail(role, email);
+    }
+
+    public Object findUserById(USER_ROLE role, Long id) {
+        return switch (role) {
+            case ROLE_CITIZEN -> citizenRepo.findById(id).orElse(null);
+            case ROLE_TECHNICIAN -> technicianRepo.findById(id).orElse(null);
+            case ROLE_OFFICER -> officerRepo.findById(id).orElse(null);
+            case ROLE_HEAD -> headRepo.findById(id).orElse(null);
+        };
+    }
+
+    private Object findByEmail(USER_ROLE role, String email) {
+        return switch (role) {
+            case ROLE_CITIZEN -> citizenRepo.findByEmail(email);
+            case ROLE_TECHNICIAN -> technicianRepo.findByEmail(email);
+            case ROLE_OFFICER -> officerRepo.findByEmail(email);
+            case ROLE_HEAD -> headRepo.findByEmail(email);
+        };
+    }
+
+    private Object findByEmailInAnyRole(String email) {
+        Citizen citizen = citizenRepo.findByEmail(email);
+        if (citizen != null) {
+            return citizen;
+        }
+
+        Technician technician = technicianRepo.findByEmail(email);
+        if (technician != null) {
+            return technician;
+        }
+
+        Officer officer = officerRepo.findByEmail(email);
+        if (officer != null) {
+            return officer;
+        }
+
+        return headRepo.findByEmail(email);
+    }
+
+    // ----------------- HELPERS -----------------
+    public USER_ROLE roleOf(Object user) {
+        if (user instanceof Citizen)
+            return USER_ROLE.ROLE_CITIZEN;
+        if (user instanceof Technician)
+            return USER_ROLE.ROLE_TECHNICIAN;
+        if (user instanceof Officer)
+            return USER_ROLE.ROLE_OFFICER;
+        return USER_ROLE.ROLE_HEAD;
+    }
+
+    public Long idOf(Object user) {
+        if (user instanceof Citizen)
+            return ((Citizen) user).getId();
+        if (user instanceof Technician)
+            return ((Technician) user).getId();
+        if (user instanceof Officer)
+            return ((Officer) user).getId();
+        return ((Head) user).getId();
+    }
+
+    public String passwordOf(Object user) {
+        if (user instanceof Citizen)
+            return ((Citizen) user).getPassword();
+        if (user instanceof Technician)
+            return ((Technician) user).getPassword();
+        if (user instanceof Officer)
+            return ((Officer) user).getPassword();
+        return ((Head) user).getPassword();
+    }
+
+    public String emailOf(Object user) {
+        if (user instanceof Citizen)
+            return ((Citizen) user).getEmail();
+        if (user instanceof Technician)
+            return ((Technician) user).getEmail();
+        if (user instanceof Officer)
+            return ((Officer) user).getEmail();
+        return ((Head) user).getEmail();
+    }
+}
@@ -3,64 +3,87 @@ package com.citycare.backend.service;
 import org.springframework.stereotype.Service;
 
 import com.citycare.backend.config.JwtProvider;
-import com.citycare.backend.model.Citizen;
-import com.citycare.backend.model.Head;
+import com.citycare.backend.domain.USER_ROLE;
 import com.citycare.backend.model.Officer;
-import com.citycare.backend.model.Technician;
-import com.citycare.backend.repository.CitizenRepository;
-import com.citycare.backend.repository.HeadRepository;
-import com.citycare.backend.repository.OfficerRepository;
-import com.citycare.backend.repository.TechnicianRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
-@RequiredArgsConstructor
+@Timed("citycare.service")
 public class UserService {
 
-    private final CitizenRepository citizenRepo;
-    private final TechnicianRepository technicianRepo;
-    private final OfficerRepository officerRepo;
-    private final HeadRepository headRepo;
+    private final UserDirectoryService userDirectory;
     private final JwtProvider jwtProvider;
+    private final PrincipalCache principalCache;
+
+    // citycare.principal.lookups by result
+    private final Counter principalHits;
+    private final Counter principalMisses;
+    private final Counter principalNotFound;
+
+    public UserService(UserDirectoryService userDirectory, JwtProvider jwtProvider, PrincipalCache principalCache,
+            MeterRegistry registry) {
+        this.userDirectory = userDirectory;
+        this.jwtProvider = jwtProvider;
+        this.principalCache = principalCache;
+        this.principalHits = lookups(registry, "hit");
+        this.principalMisses = lookups(registry, "miss");
+        this.principalNotFound = lookups(registry, "not_found");
+    }
 
     // Extract user from JWT
     public Object findUserByJwt(String jwt) throws Exception {
-        // Remove Bearer prefix if present
-        String token = jwt;
-        if (jwt.startsWith("Bearer ")) {
-            token = jwt.substring(7);
-        }
-
-        // decode JWT to get email
-        String email = jwtProvider.getEmailFromJwtToken(token);
+        // verifies this token; a token JwtTokenValidator already checked is a cache hit
+        JwtProvider.VerifiedToken token = jwtProvider.verify(jwt);
+        String email = token.email();
 
-        // find user by email (Efficiently)
-        Citizen citizen = citizenRepo.findByEmail(email);
-        if (citizen != null) {
-            return citizen;
+        // cache hit: one primary-key lookup in the right table
+        PrincipalCache.Principal cached = principalCache.get(email);
+        if (cached != null) {
+            Object user = userDirectory.findUserById(cached.role(), cached.id());
+            if (user != null && email.equals(userDirectory.emailOf(user))) {
+                principalHits.increment();
+                return user;
+            }
+            principalCache.invalidate(email);
         }
 
-        Technician technician = technicianRepo.findByEmail(email);
-        if (technician != null) {
-            return technician;
+        // miss: directory lookup, then primary-key fetch
+        Object user = userDirectory.findUserByEmail(email, roleFromClaim(token.authorities()));
+        if (user == null) {
+            principalNotFound.increment();
+            throw new Exception("User not found for email: " + email);
         }
+        principalMisses.increment();
 
-        Officer officer = officerRepo.findByEmail(email);
-        if (officer != null) {
-            return officer;
-        }
+        principalCache.put(email, userDirectory.roleOf(user), userDirectory.idOf(user));
+        return user;
+    }
 
-        Head head = headRepo.findByEmail(email);
-        if (head != null) {
-            return head;
-        }
+    public Officer validateOfficer(String jwt) throws Exception {
+        Object user = findUserByJwt(jwt);
+        if (!(user instanceof Officer officer)) throw new Exception("Unauthorized");
+        return officer;
+    }
 
-        throw new Exception("User not found for email: " + email);
+    // ----------------- HELPERS -----------------
+    private static Counter lookups(MeterRegistry registry, String result) {
+        return Counter.builder("citycare.principal.lookups")
+                .description("JWT principal resolutions, by principal-cache result")
+                .tag("result", result)
+                .register(registry);
     }
 
-    public void validateOfficer(String jwt) throws Exception {
-        Object user = findUserByJwt(jwt);
-        if (!(user instanceof Officer)) throw new Exception("Unauthorized");
+    private USER_ROLE roleFromClaim(String authorities) {
+        for (String authority : authorities.split(",")) {
+            try {
+                return USER_ROLE.valueOf(authority.trim());
+            } catch (IllegalArgumentException e) {
+                // not a role authority, keep looking
+            }
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,266 @@
+package com.citycare.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.repository.VoteRepository;
+import com.citycare.backend.response.VoteCountResponse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+// Per-issue up/down tallies kept in memory. Reads never touch the database once
+// an issue is loaded; changes are written behind to issue.upvote_count /
+// issue.downvote_count in JDBC batches.
+@Component
+@RequiredArgsConstructor
+public class VoteCounter {
+
+    private static final String FLUSH_SQL = "UPDATE issue SET upvote_count = ?, downvote_count = ? WHERE id = ?";
+
+    private final VoteRepository voteRepo;
+    private final IssueRepository issueRepo;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Tally> tallies = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    // Loading a tally from the vote table and a vote write (commit + delta) must
+    // not interleave: a load between the commit and the delta would count the
+    // vote twice, a delta skipped before a load that read the old rows would
+    // lose it. Writes share a stripe's read lock, loads take its write lock.
+    private static final int LOCK_STRIPES = 64;
+    private final ReentrantReadWriteLock[] locks = newLocks();
+
+    @FunctionalInterface
+    public interface VoteWrite<T> {
+        T run() throws Exception;
+    }
+
+    private static final class Tally {
+        final LongAdder up = new LongAdder();
+        final LongAdder down = new LongAdder();
+
+        Tally(long up, long down) {
+            this.up.add(up);
+            this.down.add(down);
+        }
+    }
+
+    // ---------------- WARM UP ----------------
+    // One grouped query loads every issue that has votes; the first flush then
+    // reconciles the denormalized columns with the vote table. Votes wait for
+    // the query like they do for any other load.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        boolean[] all = new boolean[LOCK_STRIPES];
+        Arrays.fill(all, true);
+        lockStripes(all);
+        try {
+            for (Object[] row : voteRepo.countVotesGroupedByIssue()) {
+                Long issueId = (Long) row[0];
+                tallies.putIfAbsent(issueId, new Tally(((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+                dirty.add(issueId);
+            }
+        } finally {
+            unlockStripes(all);
+        }
+    }
+
+    // after commit, so a rolled-back create leaves no tally behind
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueEvent(IssueEvent event) {
+        if (event.type() == IssueEventType.CREATED)
+            register(event.issueId());
+        else if (event.type() == IssueEventType.DELETED)
+            remove(event.issueId());
+    }
+
+    // New issues start at zero without a database round trip
+    public void register(Long issueId) {
+        tallies.putIfAbsent(issueId, new Tally(0, 0));
+    }
+
+    public void remove(Long issueId) {
+        tallies.remove(issueId);
+        dirty.remove(issueId);
+    }
+
+    // ---------------- READ ----------------
+    public VoteCountResponse getCounts(Long issueId) throws Exception {
+        Tally tally = tallies.get(issueId);
+        if (tally == null) {
+            if (!issueRepo.existsById(issueId))
+                throw new Exception("Issue not found");
+            ReentrantReadWriteLock.WriteLock lock = lock(issueId).writeLock();
+            lock.lock();
+            try {
+                // query outside the map: computeIfAbsent would hold the map bin
+                // (other issues' tallies) for the whole round trip
+                tally = tallies.get(issueId);
+                if (tally == null) {
+                    Tally loaded = loadTally(issueId);
+                    Tally raced = tallies.putIfAbsent(issueId, loaded);
+                    tally = raced != null ? raced : loaded;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return new VoteCountResponse(issueId, tally.up.sum(), tally.down.sum());
+    }
+
+    // Tallies for many issues: loaded ones from memory, the rest seeded by one
+    // grouped aggregate. Unknown issue ids are left out of the result.
+    public List<VoteCountResponse> getCounts(Collection<Long> issueIds) {
+        List<Long> missing = new ArrayList<>();
+        for (Long issueId : issueIds) {
+            if (!tallies.containsKey(issueId))
+                missing.add(issueId);
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, Tally> loaded = new HashMap<>();
+            for (Long issueId : issueRepo.findExistingIds(missing)) {
+                loaded.put(issueId, new Tally(0, 0));
+            }
+            if (!loaded.isEmpty()) {
+                // stripes in index order, so concurrent bulk loads cannot deadlock
+                boolean[] stripes = new boolean[LOCK_STRIPES];
+                for (Long issueId : loaded.keySet()) {
+                    stripes[stripe(issueId)] = true;
+                }
+                lockStripes(stripes);
+                try {
+                    for (Object[] row : voteRepo.countVotesByIssueIds(loaded.keySet())) {
+                        loaded.put((Long) row[0],
+                                new Tally(((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+                    }
+                    loaded.forEach(tallies::putIfAbsent);
+                } finally {
+                    unlockStripes(stripes);
+                }
+            }
+        }
+
+        List<VoteCountResponse> result = new ArrayList<>(issueIds.size());
+        for (Long issueId : issueIds) {
+            VoteCountResponse counts = peek(issueId);
+            if (counts != null)
+                result.add(counts);
+        }
+        return result;
+    }
+
+    // Counts only if already in memory; never hits the database
+    public VoteCountResponse peek(Long issueId) {
+        Tally tally = tallies.get(issueId);
+        return tally == null ? null : new VoteCountResponse(issueId, tally.up.sum(), tally.down.sum());
+    }
+
+    // ---------------- WRITE ----------------
+    // Runs a vote write, which must commit before returning, together with its
+    // recordChange as one step with respect to tally loads of that issue
+    public <T> T write(Long issueId, VoteWrite<T> write) throws Exception {
+        ReentrantReadWriteLock.ReadLock lock = lock(issueId).readLock();
+        lock.lock();
+        try {
+            return write.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // before/after: previous and new vote direction, null when there was / is no vote.
+    // Called inside write() after the vote is committed.
+    public void recordChange(Long issueId, Boolean before, Boolean after) {
+        if (before != null && before.equals(after))
+            return;
+        Tally tally = tallies.get(issueId);
+        if (tally == null)
+            return; // not loaded yet; the load will count the committed row
+        if (before != null)
+            (before ? tally.up : tally.down).decrement();
+        if (after != null)
+            (after ? tally.up : tally.down).increment();
+        dirty.add(issueId);
+    }
+
+    // ---------------- WRITE-BEHIND FLUSH ----------------
+    @Scheduled(fixedDelayString = "${citycare.votes.flush-interval-ms:2000}")
+    public void flush() {
+        if (dirty.isEmpty())
+            return;
+        List<Object[]> batch = new ArrayList<>();
+        for (Long issueId : dirty) {
+            dirty.remove(issueId);
+            Tally tally = tallies.get(issueId);
+            if (tally != null)
+                batch.add(new Object[] { tally.up.sum(), tally.down.sum(), issueId });
+        }
+        if (!batch.isEmpty())
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // ---------------- LOCKS ----------------
+    private static ReentrantReadWriteLock[] newLocks() {
+        ReentrantReadWriteLock[] locks = new ReentrantReadWriteLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        return locks;
+    }
+
+    private static int stripe(Long issueId) {
+        return Math.floorMod(issueId.hashCode(), LOCK_STRIPES);
+    }
+
+    private ReentrantReadWriteLock lock(Long issueId) {
+        return locks[stripe(issueId)];
+    }
+
+    private void lockStripes(boolean[] stripes) {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            if (stripes[i])
+                locks[i].writeLock().lock();
+        }
+    }
+
+    private void unlockStripes(boolean[] stripes) {
+        for (int i = LOCK_STRIPES - 1; i >= 0; i--) {
+            if (stripes[i])
+                locks[i].writeLock().unlock();
+        }
+    }
+
+    private Tally loadTally(Long issueId) {
+        List<Object[]> rows = voteRepo.countVotesByIssueIds(List.of(issueId));
+        if (rows.isEmpty())
+            return new Tally(0, 0);
+        Object[] row = rows.get(0);
+        return new Tally(((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+    }
+}
@@ -1,25 +1,39 @@
 package com.citycare.backend.service;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.USER_ROLE;
+
 import com.citycare.backend.model.Citizen;
 import com.citycare.backend.model.Issue;
 import com.citycare.backend.model.Vote;
 import com.citycare.backend.repository.IssueRepository;
 import com.citycare.backend.repository.VoteRepository;
 import com.citycare.backend.repository.CitizenRepository;
+import com.citycare.backend.response.VoteCountResponse;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed("citycare.service")
 @RequiredArgsConstructor
 public class VoteService {
 
+    public static final int MAX_BULK_COUNT_IDS = 200;
+
     private final VoteRepository voteRepository;
     private final IssueRepository issueRepository;
     private final CitizenRepository citizenRepository;
+    private final VoteCounter voteCounter;
+    private final ApplicationEventPublisher events;
 
     public Vote createOrUpdateVote(Long issueId, Long citizenId, boolean upvote, String comment) throws Exception {
         Issue issue = issueRepository.findById(issueId)
@@ -28,15 +42,26 @@ public class VoteService {
         Citizen citizen = citizenRepository.findById(citizenId)
                 .orElseThrow(() -> new Exception("Citizen not found"));
 
-        Vote vote = voteRepository.findByCitizenAndIssue(citizen, issue)
-                .orElse(new Vote());
-
-        vote.setCitizen(citizen);
-        vote.setIssue(issue);
-        vote.setUpvote(upvote);
-        vote.setComment(comment);
-
-        return voteRepository.save(vote);
+        // save commits on its own; the tally change follows it under the counter's lock
+        return voteCounter.write(issueId, () -> {
+            Vote vote = voteRepository.findByCitizenAndIssue(citizen, issue)
+                    .orElse(new Vote());
+            Boolean previous = vote.getId() != null ? vote.getUpvote() : null;
+
+            vote.setCitizen(citizen);
+            vote.setIssue(issue);
+            vote.setUpvote(upvote);
+            vote.setComment(comment);
+
+            Vote saved = voteRepository.save(vote);
+            voteCounter.recordChange(issueId, previous, upvote);
+            if (previous == null || previous != upvote)
+                events.publishEvent(new IssueEvent(IssueEventType.VOTED, issueId, issue.getCitizen().getId(),
+                        issue.getTitle(), issue.getDescription(), issue.getIssueType(), issue.getStatus(),
+                        IssueService.cityOf(issue), IssueService.latitudeOf(issue), IssueService.longitudeOf(issue),
+                        List.of(), USER_ROLE.ROLE_CITIZEN, citizenId, LocalDateTime.now()));
+            return saved;
+        });
     }
 
     public void deleteVote(Long voteId, Long citizenId) throws Exception {
@@ -47,7 +72,16 @@ public class VoteService {
             throw new Exception("You cannot delete this vote");
         }
 
-        voteRepository.delete(vote);
+        Issue issue = vote.getIssue();
+        voteCounter.write(issue.getId(), () -> {
+            voteRepository.delete(vote);
+            voteCounter.recordChange(issue.getId(), vote.getUpvote(), null);
+            return null;
+        });
+        events.publishEvent(new IssueEvent(IssueEventType.VOTE_REMOVED, issue.getId(), issue.getCitizen().getId(),
+                issue.getTitle(), issue.getDescription(), issue.getIssueType(), issue.getStatus(),
+                IssueService.cityOf(issue), IssueService.latitudeOf(issue), IssueService.longitudeOf(issue), List.of(),
+                USER_ROLE.ROLE_CITIZEN, citizenId, LocalDateTime.now()));
     }
 
     public Vote getVoteByCitizenAndIssue(Long issueId, Long citizenId) throws Exception {
@@ -66,15 +100,14 @@ public class VoteService {
         return voteRepository.findByIssue(issue);
     }
 
-    public Long countUpvotes(Long issueId) throws Exception {
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new Exception("Issue not found"));
-        return voteRepository.countByIssueAndUpvoteTrue(issue);
+    // Served from the in-memory tallies
+    public VoteCountResponse getVoteCounts(Long issueId) throws Exception {
+        return voteCounter.getCounts(issueId);
     }
 
-    public Long countDownvotes(Long issueId) throws Exception {
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new Exception("Issue not found"));
-        return voteRepository.countByIssueAndUpvoteFalse(issue);
+    public List<VoteCountResponse> getVoteCounts(List<Long> issueIds) throws Exception {
+        if (issueIds.size() > MAX_BULK_COUNT_IDS)
+            throw new Exception("At most " + MAX_BULK_COUNT_IDS + " issue ids per request");
+        return voteCounter.getCounts(new LinkedHashSet<>(issueIds));
     }
 }
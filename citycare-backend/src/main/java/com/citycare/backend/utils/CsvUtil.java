@@ -0,0 +1,77 @@
+package com.citycare.backend.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal RFC 4180 CSV: quoted fields may hold commas, quotes and line breaks
+public class CsvUtil {
+
+    public static void writeRow(Writer out, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0)
+                out.write(',');
+            out.write(escape(fields.get(i)));
+        }
+        out.write("\r\n");
+    }
+
+    public static String escape(String field) {
+        if (field == null)
+            return "";
+        boolean quote = false;
+        for (int i = 0; i < field.length() && !quote; i++) {
+            char c = field.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + field.replace("\"", "\"\"") + '"' : field;
+    }
+
+    // Next record, or null at end of input. Reads one character at a time so a
+    // record is never more than itself in memory.
+    public static List<String> readRow(BufferedReader in) throws IOException {
+        int c = in.read();
+        if (c == -1)
+            return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1)
+                    throw new IOException("Unterminated quoted field");
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        in.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n')
+                        in.reset();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.citycare.backend.utils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+public class CursorUtil {
+
+    // page size of every cursor-paged listing: default when absent, clamped to 1..MAX
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // cursor format: <reportedAt ISO>_<id>, e.g. 2025-10-25T10:15:30.123_42
+    private static final char SEPARATOR = '_';
+
+    public static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    public static String encode(LocalDateTime reportedAt, Long id) {
+        return reportedAt.toString() + SEPARATOR + id;
+    }
+
+    public static LocalDateTime decodeReportedAt(String cursor) throws Exception {
+        int sep = separatorIndex(cursor);
+        try {
+            return LocalDateTime.parse(cursor.substring(0, sep));
+        } catch (DateTimeParseException e) {
+            throw new Exception("Invalid cursor");
+        }
+    }
+
+    public static Long decodeId(String cursor) throws Exception {
+        int sep = separatorIndex(cursor);
+        try {
+            return Long.parseLong(cursor.substring(sep + 1));
+        } catch (NumberFormatException e) {
+            throw new Exception("Invalid cursor");
+        }
+    }
+
+    private static int separatorIndex(String cursor) throws Exception {
+        int sep = cursor.lastIndexOf(SEPARATOR);
+        if (sep <= 0 || sep == cursor.length() - 1)
+            throw new Exception("Invalid cursor");
+        return sep;
+    }
+}
@@ -0,0 +1,83 @@
+package com.citycare.backend.utils;
+
+// Log-linear histogram in the style of HdrHistogram: every power-of-two range
+// is split into SUB_BUCKETS equal buckets, so any recorded value is known to
+// within 1/SUB_BUCKETS (~3%) while memory stays fixed at BUCKETS counters.
+// Values are non-negative longs in whatever unit the caller picks; larger
+// values than MAX_VALUE are clamped. Histograms of the same layout merge by
+// adding counters.
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_BITS = 40;
+    public static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    private static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    public synchronized void record(long value) {
+        long v = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts[index(v)]++;
+        total++;
+        max = Math.max(max, v);
+    }
+
+    public synchronized void merge(LatencyHistogram other) {
+        long[] otherCounts;
+        long otherTotal;
+        long otherMax;
+        synchronized (other) {
+            otherCounts = other.counts.clone();
+            otherTotal = other.total;
+            otherMax = other.max;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += otherCounts[i];
+        }
+        total += otherTotal;
+        max = Math.max(max, otherMax);
+    }
+
+    public synchronized long getCount() {
+        return total;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    // Upper bound of the bucket holding the value at the given percentile
+    // (0-100], never above the largest value actually recorded. 0 when empty.
+    public synchronized long percentile(double percentile) {
+        if (total == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(highestEquivalent(i), max);
+        }
+        return max;
+    }
+
+    // values below 2 * SUB_BUCKETS map one-to-one; above that each power of two
+    // gets SUB_BUCKETS buckets of width 2^shift
+    static int index(long v) {
+        if (v < SUB_BUCKETS)
+            return (int) v;
+        int shift = (63 - Long.numberOfLeadingZeros(v)) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((v >> shift) - SUB_BUCKETS);
+    }
+
+    static long highestEquivalent(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long low = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return low + (1L << shift) - 1;
+    }
+}
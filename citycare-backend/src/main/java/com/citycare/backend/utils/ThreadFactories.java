@@ -0,0 +1,15 @@
+package com.citycare.backend.utils;
+
+import java.util.concurrent.ThreadFactory;
+
+// Named worker threads for the background pools. Virtual when the application
+// runs in virtual-thread mode (spring.threads.virtual.enabled), so a pool
+// blocked on the network holds no platform threads; the pool size still
+// bounds how much runs at once.
+public class ThreadFactories {
+
+    public static ThreadFactory named(String prefix, boolean virtual) {
+        return virtual ? Thread.ofVirtual().name(prefix, 0).factory()
+                : Thread.ofPlatform().name(prefix, 0).factory();
+    }
+}
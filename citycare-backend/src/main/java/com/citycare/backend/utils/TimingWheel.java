@@ -0,0 +1,63 @@
+package com.citycare.backend.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Hashed timing wheel: O(1) scheduling of many short-lived expiry tasks.
+// schedule() may be called from any thread; tick() must be called from a
+// single thread once per tick interval and runs the tasks that came due.
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final List<List<Timeout>> buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private long tick = 0;
+
+    private static final class Timeout {
+        final Runnable task;
+        final long deadline;
+        long rounds;
+
+        Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+
+    public TimingWheel(int bucketCount, long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    public void schedule(Runnable task, long delayMillis) {
+        pending.add(new Timeout(task, System.currentTimeMillis() + delayMillis));
+    }
+
+    public void tick() {
+        long now = System.currentTimeMillis();
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            long ticks = Math.max((timeout.deadline - now + tickMillis - 1) / tickMillis, 1);
+            timeout.rounds = (ticks - 1) / buckets.size();
+            buckets.get((int) ((tick + ticks) % buckets.size())).add(timeout);
+        }
+
+        tick++;
+        Iterator<Timeout> it = buckets.get((int) (tick % buckets.size())).iterator();
+        while (it.hasNext()) {
+            Timeout t = it.next();
+            if (t.rounds > 0) {
+                t.rounds--;
+                continue;
+            }
+            it.remove();
+            t.task.run();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.citycare.backend.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Small bounded LRU cache whose entries also expire after a fixed time-to-live.
+public class TtlCache<K, V> {
+
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    public TtlCache(int maxSize, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null)
+            return null;
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            map.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.citycare.backend.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.repository.SchemaMigrationRepository;
+
+class ActivityLogForeignKeyMigrationTest {
+
+    @Test
+    void appliedStepIsNotRunAgain() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        SchemaMigrationRepository migrations = mock(SchemaMigrationRepository.class);
+        when(migrations.existsById(ActivityLogForeignKeyMigration.NAME)).thenReturn(true);
+
+        new ActivityLogForeignKeyMigration(dataSource, migrations).afterPropertiesSet();
+
+        verify(dataSource, never()).getConnection(); // no metadata scan
+        verify(migrations, never()).save(any());
+    }
+}
@@ -0,0 +1,38 @@
+package com.citycare.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+class CursorFetchCheckTest {
+
+    @Test
+    void mysqlWithoutCursorFetchIsRejected() {
+        assertFalse(CursorFetchCheck.cursorFetchEnabled("jdbc:mysql://db:3306/citycare", new Properties()));
+        assertFalse(CursorFetchCheck.cursorFetchEnabled("jdbc:mysql://db/citycare?useSSL=false", null));
+    }
+
+    @Test
+    void cursorFetchFromUrlOrProperties() {
+        assertTrue(CursorFetchCheck.cursorFetchEnabled("jdbc:mysql://db/citycare?useSSL=false&useCursorFetch=true",
+                null));
+        Properties properties = new Properties();
+        properties.setProperty("useCursorFetch", "true");
+        assertTrue(CursorFetchCheck.cursorFetchEnabled("jdbc:mysql://db/citycare", properties));
+    }
+
+    @Test
+    void urlParameterWinsOverProperty() {
+        Properties properties = new Properties();
+        properties.setProperty("useCursorFetch", "true");
+        assertFalse(CursorFetchCheck.cursorFetchEnabled("jdbc:mysql://db/citycare?useCursorFetch=false", properties));
+    }
+
+    @Test
+    void otherDatabasesAreNotChecked() {
+        assertTrue(CursorFetchCheck.cursorFetchEnabled("jdbc:h2:mem:citycare;MODE=MySQL", new Properties()));
+    }
+}
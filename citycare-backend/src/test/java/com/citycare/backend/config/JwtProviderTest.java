@@ -0,0 +1,48 @@
+package com.citycare.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtProviderTest {
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(100, 60, new SimpleMeterRegistry());
+    }
+
+    private String token(String email, String role) {
+        return jwtProvider.generateJwtToken(new UsernamePasswordAuthenticationToken(email, null,
+                AuthorityUtils.createAuthorityList(role)));
+    }
+
+    @Test
+    void verifiedTokenIsCachedPerToken() {
+        String citizen = token("a@city.in", "ROLE_CITIZEN");
+        String officer = token("b@city.in", "ROLE_OFFICER");
+
+        JwtProvider.VerifiedToken first = jwtProvider.verify("Bearer " + citizen);
+
+        assertSame(first, jwtProvider.verify(citizen));
+        assertEquals("a@city.in", first.email());
+        assertEquals("ROLE_CITIZEN", first.authorities());
+        assertEquals("b@city.in", jwtProvider.verify(officer).email());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String jwt = token("a@city.in", "ROLE_CITIZEN");
+        String tampered = jwt.substring(0, jwt.length() - 2) + (jwt.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(RuntimeException.class, () -> jwtProvider.verify(tampered));
+    }
+}
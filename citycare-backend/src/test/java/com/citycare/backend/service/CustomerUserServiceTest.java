@@ -0,0 +1,89 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.citycare.backend.domain.USER_ROLE;
+import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Technician;
+import com.citycare.backend.model.UserDirectory;
+import com.citycare.backend.repository.CitizenRepository;
+import com.citycare.backend.repository.HeadRepository;
+import com.citycare.backend.repository.OfficerRepository;
+import com.citycare.backend.repository.TechnicianRepository;
+import com.citycare.backend.repository.UserDirectoryRepository;
+
+class CustomerUserServiceTest {
+
+    private static final String EMAIL = "both@example.com";
+
+    private UserDirectoryRepository directoryRepo;
+    private CitizenRepository citizenRepo;
+    private TechnicianRepository technicianRepo;
+    private UserDirectoryService directory;
+    private CustomerUserService service;
+
+    @BeforeEach
+    void setUp() {
+        directoryRepo = mock(UserDirectoryRepository.class);
+        citizenRepo = mock(CitizenRepository.class);
+        technicianRepo = mock(TechnicianRepository.class);
+        directory = new UserDirectoryService(directoryRepo, citizenRepo, technicianRepo,
+                mock(OfficerRepository.class), mock(HeadRepository.class));
+        service = new CustomerUserService(directory);
+
+        // the same email is a citizen and a technician; the directory remembers the citizen
+        Citizen citizen = new Citizen();
+        citizen.setId(1L);
+        citizen.setEmail(EMAIL);
+        citizen.setPassword("citizen-hash");
+        Technician tech = new Technician();
+        tech.setId(2L);
+        tech.setEmail(EMAIL);
+        tech.setPassword("tech-hash");
+        when(directoryRepo.findByEmail(EMAIL)).thenReturn(new UserDirectory(10L, EMAIL, USER_ROLE.ROLE_CITIZEN, 1L));
+        when(citizenRepo.findByEmail(EMAIL)).thenReturn(citizen);
+        when(technicianRepo.findByEmail(EMAIL)).thenReturn(tech);
+    }
+
+    @Test
+    void prefixedLoginUsesThePinnedRoleEvenWhenTheDirectoryHasAnother() {
+        UserDetails details = service.loadUserByUsername("tech_" + EMAIL);
+
+        assertEquals("tech-hash", details.getPassword());
+        assertEquals("ROLE_TECHNICIAN", details.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void plainLoginIsACitizen() {
+        UserDetails details = service.loadUserByUsername(EMAIL);
+
+        assertEquals("citizen-hash", details.getPassword());
+        assertEquals("ROLE_CITIZEN", details.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void missingAccountInThePinnedRoleIsNotFound() {
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("off_" + EMAIL));
+    }
+
+    @Test
+    void registerLosingTheRaceOnTheUniqueIndexIsIgnored() {
+        when(directoryRepo.findByEmail("new@example.com")).thenReturn(null);
+        when(directoryRepo.save(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        directory.register("new@example.com", USER_ROLE.ROLE_CITIZEN, 3L);
+
+        verify(directoryRepo).save(any());
+    }
+}
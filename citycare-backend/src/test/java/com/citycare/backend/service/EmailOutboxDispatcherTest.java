@@ -0,0 +1,158 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.domain.EmailStatus;
+import com.citycare.backend.model.EmailOutbox;
+import com.citycare.backend.repository.EmailOutboxRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmailOutboxDispatcherTest {
+
+    private static final int MAILS = 200;
+
+    // the "email_outbox table": id -> row, claimed atomically like the UPDATE ... WHERE
+    private final Map<Long, EmailOutbox> table = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> sendsTo = new ConcurrentHashMap<>();
+    private EmailOutboxRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= MAILS; id++) {
+            EmailOutbox mail = new EmailOutbox();
+            mail.setId(id);
+            mail.setRecipient("user" + id + "@example.com");
+            mail.setSubject("s");
+            mail.setHtmlContent("<p>hi</p>");
+            mail.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+            table.put(id, mail);
+        }
+
+        repo = mock(EmailOutboxRepository.class);
+        // every dispatcher sees every due row as a candidate
+        when(repo.findDue(any(), any())).thenAnswer(inv -> {
+            LocalDateTime now = inv.getArgument(0);
+            List<EmailOutbox> due = new ArrayList<>();
+            for (EmailOutbox row : table.values()) {
+                if (row.getStatus() == EmailStatus.PENDING && !row.getNextAttemptAt().isAfter(now))
+                    due.add(copy(row));
+            }
+            return due;
+        });
+        when(repo.claim(anyList(), anyString(), any(), any())).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            LocalDateTime now = inv.getArgument(2);
+            int claimed = 0;
+            synchronized (table) {
+                for (Long id : ids) {
+                    EmailOutbox row = table.get(id);
+                    if (row.getStatus() == EmailStatus.PENDING && !row.getNextAttemptAt().isAfter(now)) {
+                        row.setClaimToken(inv.getArgument(1));
+                        row.setNextAttemptAt(inv.getArgument(3));
+                        claimed++;
+                    }
+                }
+            }
+            return claimed;
+        });
+        when(repo.findByClaimToken(anyString())).thenAnswer(inv -> {
+            List<EmailOutbox> rows = new ArrayList<>();
+            for (EmailOutbox row : table.values()) {
+                if (inv.getArgument(0).equals(row.getClaimToken()))
+                    rows.add(copy(row));
+            }
+            return rows;
+        });
+        when(repo.save(any())).thenAnswer(inv -> {
+            EmailOutbox row = inv.getArgument(0);
+            table.put(row.getId(), row);
+            return row;
+        });
+    }
+
+    private EmailOutboxDispatcher dispatcher() {
+        EmailTransport transport = (recipient, subject, html) -> sendsTo
+                .computeIfAbsent(recipient, r -> new AtomicInteger()).incrementAndGet();
+        return new EmailOutboxDispatcher(repo, transport, new SimpleMeterRegistry(), 4, MAILS, 6, 5, 300, false);
+    }
+
+    @Test
+    void twoNodesNeverSendTheSameMailTwice() throws Exception {
+        EmailOutboxDispatcher a = dispatcher();
+        EmailOutboxDispatcher b = dispatcher();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?> fa = pool.submit(() -> {
+                start.await();
+                a.dispatch();
+                return null;
+            });
+            Future<?> fb = pool.submit(() -> {
+                start.await();
+                b.dispatch();
+                return null;
+            });
+            start.countDown();
+            fa.get();
+            fb.get();
+        } finally {
+            pool.shutdown();
+            a.shutdown();
+            b.shutdown();
+        }
+
+        assertEquals(MAILS, sendsTo.size());
+        for (AtomicInteger sends : sendsTo.values()) {
+            assertEquals(1, sends.get());
+        }
+        for (EmailOutbox row : table.values()) {
+            assertEquals(EmailStatus.SENT, row.getStatus());
+            assertEquals(null, row.getHtmlContent()); // may carry an OTP or a password
+        }
+    }
+
+    @Test
+    void failedSendIsRetriedAfterTheBackOffNotTheLease() throws Exception {
+        EmailOutboxDispatcher failing = new EmailOutboxDispatcher(repo, (r, s, h) -> {
+            throw new Exception("smtp down");
+        }, new SimpleMeterRegistry(), 1, MAILS, 6, 5, 300, false);
+        try {
+            failing.dispatch();
+        } finally {
+            failing.shutdown();
+        }
+
+        EmailOutbox row = table.get(1L);
+        assertEquals(EmailStatus.PENDING, row.getStatus());
+        assertEquals(1, row.getAttempts());
+        assertEquals(null, row.getClaimToken());
+        assertEquals(true, row.getNextAttemptAt().isBefore(LocalDateTime.now().plusSeconds(10)));
+    }
+
+    private static EmailOutbox copy(EmailOutbox row) {
+        return new EmailOutbox(row.getId(), row.getRecipient(), row.getSubject(), row.getHtmlContent(),
+                row.getStatus(), row.getAttempts(), row.getNextAttemptAt(), row.getClaimToken(), row.getLastError(),
+                row.getCreatedAt(), row.getSentAt());
+    }
+}
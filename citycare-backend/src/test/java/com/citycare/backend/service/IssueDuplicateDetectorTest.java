@@ -0,0 +1,111 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+
+class IssueDuplicateDetectorTest {
+
+    private static final double LAT = 18.5204;
+    private static final double LON = 73.8567;
+    private static final String TITLE = "Deep pothole near the bus stop";
+    private static final String DESCRIPTION = "A deep pothole on MG Road right next to the bus stop, cars swerve around it";
+
+    private IssueSpatialIndex spatialIndex;
+    private IssueDuplicateDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        spatialIndex = new IssueSpatialIndex(null);
+        detector = new IssueDuplicateDetector(null, spatialIndex, 150, 0.35);
+    }
+
+    private void add(long id, IssueType type, double lat, String title, String description) {
+        spatialIndex.add(id, lat, LON);
+        detector.add(id, type, title, description);
+    }
+
+    @Test
+    void similarTextOfTheSameTypeNearbyIsADuplicate() {
+        add(1, IssueType.POTHOLE, LAT + 0.0005, TITLE, DESCRIPTION);
+        add(2, IssueType.POTHOLE, LAT + 0.0003, "Streetlight flickering", "The lamp outside block C flickers all night");
+        add(3, IssueType.GARBAGE_OVERFLOW, LAT, TITLE, DESCRIPTION);
+
+        List<Long> duplicates = detector.findDuplicates(IssueType.POTHOLE, LAT, LON,
+                "Deep pothole near bus stop", "Deep pothole on MG Road next to the bus stop, cars swerve around it", 5);
+
+        assertEquals(List.of(1L), duplicates);
+    }
+
+    @Test
+    void issuesOfOtherTypesCannotCrowdOutTheMatch() {
+        // more closer issues of another type than one check compares
+        for (long id = 100; id < 300; id++) {
+            add(id, IssueType.GARBAGE_OVERFLOW, LAT + 0.000001 * (id - 100), "Garbage bin overflowing " + id,
+                    "Bins not emptied for days");
+        }
+        add(1, IssueType.POTHOLE, LAT + 0.001, TITLE, DESCRIPTION);
+
+        assertEquals(List.of(1L), detector.findDuplicates(IssueType.POTHOLE, LAT, LON, TITLE, DESCRIPTION, 5));
+    }
+
+    @Test
+    void emptyTextNeverMatches() {
+        add(1, IssueType.POTHOLE, LAT, "", null);
+        add(2, IssueType.POTHOLE, LAT, TITLE, DESCRIPTION);
+
+        assertNull(IssueDuplicateDetector.signature("", null));
+        assertTrue(detector.findDuplicates(IssueType.POTHOLE, LAT, LON, null, " ", 5).isEmpty());
+        assertEquals(List.of(2L), detector.findDuplicates(IssueType.POTHOLE, LAT, LON, TITLE, DESCRIPTION, 5));
+    }
+
+    @Test
+    void farAwayOrRemovedIssuesAreNotDuplicates() {
+        add(1, IssueType.POTHOLE, LAT + 0.01, TITLE, DESCRIPTION); // ~1.1 km
+        add(2, IssueType.POTHOLE, LAT, TITLE, DESCRIPTION);
+        detector.remove(2L);
+
+        assertTrue(detector.findDuplicates(IssueType.POTHOLE, LAT, LON, TITLE, DESCRIPTION, 5).isEmpty());
+    }
+
+    @Test
+    void committedEventsTrackOpenIssues() {
+        spatialIndex.add(1L, LAT, LON);
+        detector.onIssueEvent(event(IssueEventType.CREATED, IssueStatus.PENDING));
+        assertEquals(List.of(1L), detector.findDuplicates(IssueType.POTHOLE, LAT, LON, TITLE, DESCRIPTION, 5));
+
+        detector.onIssueEvent(event(IssueEventType.STATUS_CHANGED, IssueStatus.RESOLVED));
+        assertTrue(detector.findDuplicates(IssueType.POTHOLE, LAT, LON, TITLE, DESCRIPTION, 5).isEmpty());
+
+        detector.onIssueEvent(event(IssueEventType.STATUS_CHANGED, IssueStatus.IN_PROGRESS)); // reopened
+        assertEquals(List.of(1L), detector.findDuplicates(IssueType.POTHOLE, LAT, LON, TITLE, DESCRIPTION, 5));
+
+        detector.onIssueEvent(event(IssueEventType.DELETED, IssueStatus.IN_PROGRESS));
+        assertTrue(detector.findDuplicates(IssueType.POTHOLE, LAT, LON, TITLE, DESCRIPTION, 5).isEmpty());
+    }
+
+    private static IssueEvent event(IssueEventType type, IssueStatus status) {
+        return new IssueEvent(type, 1L, 1L, TITLE, DESCRIPTION, IssueType.POTHOLE, status, "Pune", LAT, LON,
+                List.of(), null, null, LocalDateTime.now());
+    }
+
+    @Test
+    void minHashEstimatesTextSimilarity() {
+        int[] a = IssueDuplicateDetector.signature(TITLE, DESCRIPTION);
+
+        assertEquals(1.0, IssueDuplicateDetector.similarity(a, IssueDuplicateDetector.signature(TITLE, DESCRIPTION)));
+        assertTrue(IssueDuplicateDetector.similarity(a,
+                IssueDuplicateDetector.signature("Water leak", "Pipe burst flooding the basement parking")) < 0.2);
+    }
+}
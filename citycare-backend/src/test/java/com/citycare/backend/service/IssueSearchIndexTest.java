@@ -0,0 +1,75 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+
+class IssueSearchIndexTest {
+
+    private IssueSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new IssueSearchIndex(null);
+        index.add(1L, "Pothole on MG Road", "Deep pothole near the bus stop");
+        index.add(2L, "Streetlight not working", "The lamp on MG Road is dark at night");
+        index.add(3L, "Garbage overflowing", "Bins near the market not emptied, a pothole too");
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        assertEquals(List.of(1L, 2L), index.search("mg road").stream().sorted().toList());
+        assertEquals(List.of(2L), index.search("road lamp"));
+        assertTrue(index.search("pothole lamp").isEmpty());
+    }
+
+    @Test
+    void titleHitsRankAboveDescriptionHits() {
+        assertEquals(List.of(1L, 3L), index.search("pothole"));
+    }
+
+    @Test
+    void termsMatchAsPrefixes() {
+        assertEquals(List.of(1L, 3L), index.search("poth"));
+        assertEquals(List.of(2L), index.search("STREET"));
+    }
+
+    @Test
+    void stopWordsAndShortTokensAreIgnored() {
+        assertEquals(List.of("pothole", "mg", "road"), IssueSearchIndex.tokenize("The pothole on a MG-Road!"));
+        assertTrue(index.search("the on a").isEmpty());
+    }
+
+    @Test
+    void removedAndReindexedIssuesFollowTheirText() {
+        index.remove(1L);
+        assertEquals(List.of(3L), index.search("pothole"));
+
+        index.add(2L, "Pothole by the lamp", null);
+        assertEquals(List.of(2L, 3L), index.search("pothole"));
+        assertTrue(index.search("night").isEmpty());
+    }
+
+    @Test
+    void committedEventsKeepTheIndexCurrent() {
+        index.onIssueEvent(event(IssueEventType.CREATED, 4L, "Broken bench", "Pothole beside the park bench"));
+        assertEquals(List.of(1L, 3L, 4L), index.search("pothole").stream().sorted().toList());
+
+        index.onIssueEvent(event(IssueEventType.DELETED, 1L, "Pothole on MG Road", null));
+        index.onIssueEvent(event(IssueEventType.VOTED, 2L, "Pothole", null)); // not a text change
+        assertEquals(List.of(3L, 4L), index.search("pothole").stream().sorted().toList());
+    }
+
+    private static IssueEvent event(IssueEventType type, Long id, String title, String description) {
+        return new IssueEvent(type, id, 1L, title, description, null, null, "Pune", null, null, List.of(), null,
+                null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,183 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Issue;
+import com.citycare.backend.model.Officer;
+import com.citycare.backend.model.Technician;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.response.CursorPage;
+import com.citycare.backend.response.IssueDetailResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+class IssueServiceTest {
+
+    private IssueRepository issueRepo;
+    private EntityManager em;
+    private IssueService service;
+
+    @BeforeEach
+    void setUp() {
+        issueRepo = mock(IssueRepository.class);
+        em = mock(EntityManager.class);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        service = new IssueService(issueRepo, null, null, mock(VoteCounter.class), null, null, null, null, null,
+                null, objectMapper, false, "suggest");
+        ReflectionTestUtils.setField(service, "em", em);
+    }
+
+    // ---------------- FILTERS ----------------
+
+    @Test
+    void filtersAreParsedCaseInsensitively() throws Exception {
+        assertEquals(IssueStatus.PENDING, service.parseStatus("pending"));
+        assertEquals(null, service.parseStatus(null));
+        assertEquals(null, service.parseType(null));
+    }
+
+    @Test
+    void unknownFilterValueIsAnInvalidRequest() {
+        Exception status = assertThrows(Exception.class, () -> service.getIssuesPage("nope", null, null, null, null));
+        assertEquals("Invalid status: nope", status.getMessage());
+        Exception type = assertThrows(Exception.class, () -> service.parseType("nope"));
+        assertEquals("Invalid issue type: nope", type.getMessage());
+    }
+
+    // ---------------- LISTING ----------------
+
+    @Test
+    void listingPageFillsImagesAndTechniciansForItsOwnRows() throws Exception {
+        when(issueRepo.findDetailPage(isNull(), isNull(), isNull(), isNull(), isNull(), any()))
+                .thenReturn(new ArrayList<>(List.of(detail(3), detail(2), detail(1))));
+        when(issueRepo.findImageUrlsByIssueIdIn(any())).thenReturn(List.<Object[]>of(new Object[] { 3L, "a.jpg" }));
+        when(issueRepo.findTechnicianSummariesByIssueIdIn(any()))
+                .thenReturn(List.<Object[]>of(new Object[] { 2L, 10L, "Ravi", "9999999999" }));
+
+        CursorPage<IssueDetailResponse> page = service.getIssuesPage(null, null, null, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        assertEquals(List.of("a.jpg"), page.getItems().get(0).getImageUrls());
+        assertEquals("Ravi", page.getItems().get(1).getTechnicians().get(0).getName());
+        // the look-ahead row is not part of the page
+        verify(issueRepo).findImageUrlsByIssueIdIn(eq(Set.of(3L, 2L)));
+    }
+
+    private static IssueDetailResponse detail(long id) {
+        IssueDetailResponse detail = new IssueDetailResponse();
+        detail.setId(id);
+        detail.setReportedAt(LocalDateTime.of(2025, 10, 1, 10, 0).minusMinutes(id));
+        return detail;
+    }
+
+    // ---------------- TIMELINE ACCESS ----------------
+
+    @Test
+    void timelineIsLimitedToReporterAssignedTechniciansAndStaff() throws Exception {
+        Citizen reporter = new Citizen();
+        reporter.setId(1L);
+        Citizen other = new Citizen();
+        other.setId(2L);
+        Technician assigned = new Technician();
+        assigned.setId(10L);
+        Technician unassigned = new Technician();
+        unassigned.setId(11L);
+        Issue issue = issue(5);
+        issue.setCitizen(reporter);
+        when(issueRepo.findById(5L)).thenReturn(Optional.of(issue));
+        when(issueRepo.findTechnicianIdsByIssueIdIn(List.of(5L))).thenReturn(List.<Object[]>of(new Object[] { 5L, 10L }));
+
+        service.validateTimelineAccess(5L, reporter);
+        service.validateTimelineAccess(5L, assigned);
+        service.validateTimelineAccess(5L, new Officer());
+        // staff keep access to the trail of a deleted issue
+        service.validateTimelineAccess(6L, new Officer());
+        assertEquals("Unauthorized",
+                assertThrows(Exception.class, () -> service.validateTimelineAccess(5L, other)).getMessage());
+        assertEquals("Unauthorized",
+                assertThrows(Exception.class, () -> service.validateTimelineAccess(5L, unassigned)).getMessage());
+    }
+
+    // ---------------- STREAMING FEED ----------------
+
+    // Chunks go out (and are detached) while the cursor is still being read
+    @Test
+    void feedIsWrittenAndDetachedChunkByChunk() throws Exception {
+        long issues = 20 * IssueService.FEED_CHUNK_SIZE + 7;
+        AtomicLong written = new AtomicLong();
+        AtomicLong writtenBeforeLast = new AtomicLong(-1);
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written.addAndGet(len);
+            }
+        };
+        when(issueRepo.streamFeed(null, null, null)).thenAnswer(inv -> LongStream.rangeClosed(1, issues)
+                .mapToObj(id -> {
+                    if (id == issues)
+                        writtenBeforeLast.set(written.get());
+                    return issue(id);
+                }));
+
+        service.writeIssueFeed(null, null, null, out);
+
+        // one clear per full chunk plus the tail
+        verify(em, times(21)).clear();
+        assertTrue(writtenBeforeLast.get() > written.get() / 2,
+                "only " + writtenBeforeLast.get() + " of " + written.get() + " bytes out before the last issue");
+    }
+
+    @Test
+    void emptyFeedIsAnEmptyArray() throws Exception {
+        when(issueRepo.streamFeed(IssueStatus.PENDING, null, "Pune")).thenAnswer(inv -> LongStream.empty()
+                .mapToObj(IssueServiceTest::issue));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeIssueFeed(IssueStatus.PENDING, null, "Pune", out);
+        assertEquals("[]", out.toString());
+    }
+
+    static Issue issue(long id) {
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setTitle("Issue " + id);
+        issue.setDescription("Deep pothole near the bus stop");
+        issue.setIssueType(IssueType.POTHOLE);
+        issue.setReportedAt(LocalDateTime.of(2025, 10, 1, 10, 0).minusMinutes(id));
+        return issue;
+    }
+}
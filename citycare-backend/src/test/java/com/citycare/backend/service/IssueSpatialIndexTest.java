@@ -0,0 +1,96 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+
+class IssueSpatialIndexTest {
+
+    // Pune, roughly: 0.001 deg of latitude is ~111 m
+    private static final double LAT = 18.5204;
+    private static final double LON = 73.8567;
+
+    private IssueSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new IssueSpatialIndex(null);
+    }
+
+    @Test
+    void findsIssuesWithinTheRadiusNearestFirst() {
+        index.add(1L, LAT + 0.004, LON); // ~445 m
+        index.add(2L, LAT + 0.001, LON); // ~111 m
+        index.add(3L, LAT + 0.02, LON); // ~2.2 km, another cell
+        index.add(4L, LAT - 0.002, LON); // ~222 m
+
+        assertEquals(List.of(2L, 4L, 1L), index.findNearby(LAT, LON, 1000, 10));
+        assertEquals(List.of(2L, 4L), index.findNearby(LAT, LON, 1000, 2));
+        assertEquals(List.of(2L, 4L, 1L, 3L), index.findNearby(LAT, LON, 3000, 10));
+    }
+
+    @Test
+    void searchCoversNeighbouringCells() {
+        // a few meters apart but on both sides of a cell boundary
+        index.add(1L, 18.52999, LON);
+        index.add(2L, 18.53001, LON);
+
+        assertEquals(2, index.findNearby(18.53, LON, 50, 10).size());
+    }
+
+    @Test
+    void removingTheLastIssueOfACellDropsTheCell() {
+        index.add(1L, LAT, LON);
+        index.add(2L, LAT, LON);
+        index.add(3L, LAT + 0.05, LON);
+        assertEquals(2, index.cellCount());
+
+        index.remove(1L);
+        assertEquals(2, index.cellCount());
+        index.remove(2L);
+        index.remove(3L);
+        assertEquals(0, index.cellCount());
+        assertTrue(index.findNearby(LAT, LON, 1000, 10).isEmpty());
+    }
+
+    @Test
+    void readdingAnIssueMovesItToItsNewCell() {
+        index.add(1L, LAT, LON);
+        index.add(1L, LAT + 0.05, LON);
+
+        assertEquals(1, index.cellCount());
+        assertTrue(index.findNearby(LAT, LON, 1000, 10).isEmpty());
+        assertEquals(List.of(1L), index.findNearby(LAT + 0.05, LON, 1000, 10));
+    }
+
+    @Test
+    void committedCreateAndDeleteEventsKeepTheIndexCurrent() {
+        index.onIssueEvent(event(IssueEventType.CREATED, 7L, LAT, LON));
+        assertEquals(List.of(7L), index.findNearby(LAT, LON, 100, 10));
+
+        index.onIssueEvent(event(IssueEventType.VOTED, 7L, LAT, LON));
+        index.onIssueEvent(event(IssueEventType.DELETED, 7L, LAT, LON));
+        assertTrue(index.findNearby(LAT, LON, 100, 10).isEmpty());
+        assertEquals(0, index.cellCount());
+    }
+
+    @Test
+    void issuesWithoutCoordinatesAreIgnored() {
+        index.onIssueEvent(event(IssueEventType.CREATED, 7L, null, null));
+
+        assertEquals(0, index.cellCount());
+    }
+
+    private static IssueEvent event(IssueEventType type, Long id, Double lat, Double lon) {
+        return new IssueEvent(type, id, 1L, "t", null, null, null, "Pune", lat, lon, List.of(), null, null,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,106 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.response.IssueStatsResponse;
+
+class IssueStatsTest {
+
+    private IssueRepository issueRepo;
+    private IssueStats stats;
+
+    @BeforeEach
+    void setUp() {
+        issueRepo = mock(IssueRepository.class);
+        stats = new IssueStats(issueRepo);
+        when(issueRepo.findStatsRowsAfter(anyLong(), any())).thenReturn(rows(
+                new Object[] { 1L, IssueType.POTHOLE, IssueStatus.PENDING, "Pune" },
+                new Object[] { 2L, IssueType.POTHOLE, IssueStatus.RESOLVED, "Pune" },
+                new Object[] { 3L, IssueType.WATER_LEAK, IssueStatus.PENDING, " " }));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static IssueEvent event(IssueEventType type, Long id, IssueType issueType, IssueStatus status,
+            String city) {
+        return new IssueEvent(type, id, 1L, "t", null, issueType, status, city, null, null, List.of(), null,
+                null, LocalDateTime.now());
+    }
+
+    @Test
+    void reconcileCountsTheTable() {
+        stats.reconcile();
+        IssueStatsResponse response = stats.getStats();
+
+        assertEquals(3, response.getTotal());
+        assertEquals(2, response.getByStatus().get(IssueStatus.PENDING));
+        assertEquals(2, response.getByType().get(IssueType.POTHOLE));
+        assertEquals(2, response.getByCity().get("Pune"));
+        assertEquals(1, response.getByCity().get(IssueStats.UNKNOWN_CITY));
+    }
+
+    @Test
+    void statusChangeMovesTheIssueBetweenCells() {
+        stats.reconcile();
+
+        stats.onIssueEvent(event(IssueEventType.STATUS_CHANGED, 1L, IssueType.POTHOLE, IssueStatus.RESOLVED, "Pune"));
+        stats.onIssueEvent(event(IssueEventType.DELETED, 3L, null, null, null));
+        IssueStatsResponse response = stats.getStats();
+
+        assertEquals(2, response.getTotal());
+        assertEquals(0, response.getByStatus().get(IssueStatus.PENDING));
+        assertEquals(2, response.getByTypeAndStatus().get(IssueType.POTHOLE).get(IssueStatus.RESOLVED));
+        assertFalse(response.getByCity().containsKey(IssueStats.UNKNOWN_CITY)); // empty city dropped
+    }
+
+    @Test
+    void changesDuringAReconcileAreReplayedOntoTheFreshCounts() {
+        stats.reconcile();
+        // the table is read before these land, so the fresh counts miss them
+        when(issueRepo.findStatsRowsAfter(anyLong(), any())).thenAnswer(inv -> {
+            stats.onIssueEvent(event(IssueEventType.CREATED, 4L, IssueType.POTHOLE, IssueStatus.PENDING, "Delhi"));
+            stats.onIssueEvent(event(IssueEventType.DELETED, 2L, null, null, null));
+            return rows(
+                    new Object[] { 1L, IssueType.POTHOLE, IssueStatus.PENDING, "Pune" },
+                    new Object[] { 2L, IssueType.POTHOLE, IssueStatus.RESOLVED, "Pune" },
+                    new Object[] { 3L, IssueType.WATER_LEAK, IssueStatus.PENDING, null });
+        });
+
+        stats.reconcile();
+        IssueStatsResponse response = stats.getStats();
+
+        assertEquals(3, response.getTotal());
+        assertEquals(1, response.getByCity().get("Delhi"));
+        assertEquals(0, response.getByStatus().get(IssueStatus.RESOLVED));
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+        stats.reconcile();
+        stats.record(9L, IssueType.POTHOLE, IssueStatus.PENDING, "Pune"); // never committed
+        assertEquals(4, stats.getStats().getTotal());
+
+        stats.reconcile();
+
+        assertEquals(3, stats.getStats().getTotal());
+    }
+}
@@ -0,0 +1,85 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.response.IssueExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class IssueTransferServiceTest {
+
+    private static final long ROWS = 100_000;
+
+    // The export must write rows out while the cursor is still being read:
+    // by the time the last row is produced most of the output has already
+    // reached the response stream, so nothing collects the whole table.
+    @Test
+    void exportWritesRowsWhileReadingTheCursor() throws Exception {
+        AtomicLong written = new AtomicLong();
+        AtomicLong writtenBeforeLastRow = new AtomicLong(-1);
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written.addAndGet(len);
+            }
+        };
+
+        IssueRepository issueRepo = mock(IssueRepository.class);
+        when(issueRepo.streamExportRows()).thenAnswer(inv -> LongStream.rangeClosed(1, ROWS).mapToObj(id -> {
+            if (id == ROWS)
+                writtenBeforeLastRow.set(written.get());
+            return row(id);
+        }));
+
+        IssueTransferService service = new IssueTransferService(issueRepo, null, mock(VoteCounter.class), null, null,
+                null, null, null, null, mock(PlatformTransactionManager.class), new ObjectMapper(), 500);
+        service.export("csv", out);
+
+        long total = written.get();
+        assertTrue(total > 5_000_000, "expected a large export, got " + total + " bytes");
+        // everything but the last buffer's worth was already out
+        assertTrue(writtenBeforeLastRow.get() > total - 128 * 1024,
+                "only " + writtenBeforeLastRow.get() + " of " + total + " bytes written before the last row");
+    }
+
+    @Test
+    void exportHasHeaderAndOneLinePerRow() throws Exception {
+        IssueRepository issueRepo = mock(IssueRepository.class);
+        when(issueRepo.streamExportRows()).thenAnswer(inv -> LongStream.rangeClosed(1, 3).mapToObj(id -> row(id)));
+        IssueTransferService service = new IssueTransferService(issueRepo, null, mock(VoteCounter.class), null, null,
+                null, null, null, null, mock(PlatformTransactionManager.class), new ObjectMapper(), 500);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export("csv", out);
+        String[] lines = out.toString().split("\r?\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("id,title"));
+        assertTrue(lines[3].startsWith("3,Issue 3"));
+    }
+
+    private static IssueExportRow row(long id) {
+        return new IssueExportRow(id, "Issue " + id, "Deep pothole near the bus stop, number " + id,
+                IssueType.POTHOLE, IssueStatus.PENDING, LocalDateTime.of(2025, 10, 1, 10, 0), null,
+                "citizen@x.com", "Home", "Main road", "Madhapur", "Hyderabad", "Telangana", "500081", 17.385,
+                78.4867, 3L, 1L);
+    }
+}
@@ -0,0 +1,137 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.repository.NotificationRepository;
+import com.citycare.backend.repository.VoteRepository;
+
+class NotificationServiceTest {
+
+    private static final NotificationService.Recipient CITIZEN = new NotificationService.Recipient(1L, null);
+
+    private NotificationRepository notificationRepo;
+    private JdbcTemplate jdbcTemplate;
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepo = mock(NotificationRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new NotificationService(notificationRepo, mock(VoteRepository.class), jdbcTemplate, 100, 50, 100,
+                60);
+        insertAll();
+    }
+
+    private static IssueEvent created(Long issueId) {
+        return new IssueEvent(IssueEventType.CREATED, issueId, 1L, "t", null, null, null, "Pune", null, null,
+                List.of(), null, null, LocalDateTime.now());
+    }
+
+    private void insertAll() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            int[] counts = new int[inv.<List<?>>getArgument(1).size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+    }
+
+    @Test
+    void flushedBatchIsCountedOnceOnTopOfTheLoadedCount() {
+        when(notificationRepo.countUnread(1L, null)).thenReturn(2L);
+        assertEquals(2, service.getUnreadCount(CITIZEN));
+
+        service.onIssueEvent(created(7L));
+        service.onIssueEvent(created(8L));
+        service.flush();
+
+        assertEquals(4, service.getUnreadCount(CITIZEN));
+    }
+
+    @Test
+    void rowsSkippedForADeletedIssueAreNotCounted() {
+        when(notificationRepo.countUnread(1L, null)).thenReturn(0L);
+        service.getUnreadCount(CITIZEN);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 0 });
+
+        service.onIssueEvent(created(7L));
+        service.flush();
+
+        assertEquals(0, service.getUnreadCount(CITIZEN));
+    }
+
+    @Test
+    void countLoadedWhileAFlushRunsIsNotAddedTwice() {
+        // the row lands while the batch holds the lock; a reader that missed the
+        // cache waits and then loads a count that already includes it
+        when(notificationRepo.countUnread(1L, null)).thenReturn(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            Thread reader = new Thread(() -> service.getUnreadCount(CITIZEN));
+            reader.start();
+            reader.join(200); // blocked on the flush lock
+            return new int[] { 1 };
+        });
+
+        service.onIssueEvent(created(7L));
+        service.flush();
+
+        assertEquals(1, service.getUnreadCount(CITIZEN));
+    }
+
+    @Test
+    void markAllReadResetsTheCount() {
+        when(notificationRepo.countUnread(1L, null)).thenReturn(5L);
+        service.getUnreadCount(CITIZEN);
+
+        service.markAllRead(CITIZEN);
+
+        assertEquals(0, service.getUnreadCount(CITIZEN));
+    }
+
+    @Test
+    void issueIsDeletedAfterItsNotifications() {
+        IssueRepository issueRepo = mock(IssueRepository.class);
+
+        service.deleteIssue(7L, () -> issueRepo.deleteById(7L));
+
+        InOrder order = inOrder(notificationRepo, issueRepo);
+        order.verify(notificationRepo).deleteByIssueId(7L);
+        order.verify(issueRepo).deleteById(7L);
+    }
+
+    @Test
+    void issueDeleteReloadsOnlyTheAffectedCounts() {
+        NotificationService.Recipient other = new NotificationService.Recipient(2L, null);
+        when(notificationRepo.countUnread(1L, null)).thenReturn(3L, 2L);
+        when(notificationRepo.countUnread(2L, null)).thenReturn(5L);
+        service.getUnreadCount(CITIZEN);
+        service.getUnreadCount(other);
+        when(notificationRepo.findUnreadRecipientsByIssueId(7L))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, null }));
+
+        service.deleteIssue(7L, () -> {
+        });
+
+        assertEquals(2, service.getUnreadCount(CITIZEN));
+        assertEquals(5, service.getUnreadCount(other));
+        verify(notificationRepo, times(1)).countUnread(2L, null);
+    }
+}
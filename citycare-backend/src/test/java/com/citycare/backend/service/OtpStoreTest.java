@@ -0,0 +1,72 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.repository.VerificationCodeRepository;
+
+class OtpStoreTest {
+
+    private static final String EMAIL = "a@city.in";
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    // ---------------- IN MEMORY ----------------
+    @Test
+    void codeIsUsedUpByTheFirstMatch() {
+        InMemoryOtpStore store = new InMemoryOtpStore();
+        store.put(EMAIL, "123456", TTL);
+
+        assertFalse(store.consume(EMAIL, "654321"));
+        assertFalse(store.consume("b@city.in", "123456"));
+        assertTrue(store.consume(EMAIL, "123456"));
+        assertFalse(store.consume(EMAIL, "123456"));
+    }
+
+    @Test
+    void newCodeReplacesTheOldOne() {
+        InMemoryOtpStore store = new InMemoryOtpStore();
+        store.put(EMAIL, "111111", TTL);
+        store.put(EMAIL, "222222", TTL);
+
+        assertFalse(store.consume(EMAIL, "111111"));
+        assertTrue(store.consume(EMAIL, "222222"));
+    }
+
+    @Test
+    void expiredCodeIsRejected() {
+        InMemoryOtpStore store = new InMemoryOtpStore();
+        store.put(EMAIL, "123456", Duration.ofMillis(-1));
+
+        assertFalse(store.consume(EMAIL, "123456"));
+        assertFalse(store.consume(EMAIL, null));
+    }
+
+    // ---------------- JPA ----------------
+    @Test
+    void jpaCodeIsConsumedOnlyWhenTheDeleteHitsOneRow() {
+        VerificationCodeRepository repo = mock(VerificationCodeRepository.class);
+        JpaOtpStore store = new JpaOtpStore(repo);
+        when(repo.consume(eq(EMAIL), eq("123456"), any())).thenReturn(1, 0);
+
+        assertTrue(store.consume(EMAIL, "123456"));
+        assertFalse(store.consume(EMAIL, "123456")); // a concurrent attempt deleted it first
+    }
+
+    @Test
+    void jpaNullCodeNeverReachesTheDatabase() {
+        VerificationCodeRepository repo = mock(VerificationCodeRepository.class);
+
+        assertFalse(new JpaOtpStore(repo).consume(EMAIL, null));
+        verify(repo, never()).consume(any(), any(), any());
+    }
+}
@@ -0,0 +1,119 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.response.CursorPage;
+
+class PublicFeedCacheTest {
+
+    private PublicFeedCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new PublicFeedCache(Jackson2ObjectMapperBuilder.json().build(), 100, 60);
+    }
+
+    private PublicFeedCache.Snapshot get(String city) throws Exception {
+        return cache.get("all-public|" + city, city, () -> {
+            loads.incrementAndGet();
+            return new CursorPage<>(List.of(city == null ? "all" : city), null);
+        });
+    }
+
+    private static IssueEvent voted(String city) {
+        return new IssueEvent(IssueEventType.VOTED, 1L, 1L, "t", null, null, null, city, null, null, List.of(), null,
+                null, LocalDateTime.now());
+    }
+
+    @Test
+    void hitServesTheSameBytesWithoutLoading() throws Exception {
+        PublicFeedCache.Snapshot first = get("Pune");
+        PublicFeedCache.Snapshot second = get("Pune");
+
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+        assertEquals("[\"Pune\"]", new String(second.json()));
+    }
+
+    @Test
+    void eventInOneCityKeepsOtherCitiesCached() throws Exception {
+        get("Pune");
+        get("Delhi");
+        get(null);
+
+        cache.onIssueEvent(voted("Pune"));
+        get("Pune");
+        get("Delhi");
+        get(null);
+
+        // Pune and the unfiltered listing were rebuilt, Delhi was not
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void cityFilterMatchesEventsRegardlessOfCase() throws Exception {
+        get("pune");
+
+        cache.onIssueEvent(voted(" Pune"));
+        get("pune");
+
+        assertEquals(2, loads.get());
+        assertEquals(PublicFeedCache.cityKey("pune"), PublicFeedCache.cityKey("PUNE "));
+    }
+
+    @Test
+    void invalidateDropsEveryListing() throws Exception {
+        get("Pune");
+        get(null);
+
+        cache.invalidate();
+        get("Pune");
+        get(null);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void eventWithoutCityDropsEveryListing() throws Exception {
+        get("Pune");
+
+        cache.onIssueEvent(voted(null));
+        get("Pune");
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void gzipEtagDiffersFromTheIdentityOne() throws Exception {
+        PublicFeedCache.Snapshot snapshot = get("Pune");
+
+        assertTrue(snapshot.etag().startsWith("\"") && snapshot.etag().endsWith("\""));
+        assertTrue(snapshot.gzipEtag().endsWith("-gz\""));
+        assertFalse(snapshot.gzipEtag().equals(snapshot.etag()));
+    }
+
+    @Test
+    void ifNoneMatchComparesWeaklyAcrossAList() {
+        String etag = "\"abc\"";
+
+        assertTrue(PublicFeedCache.matches(etag, etag));
+        assertTrue(PublicFeedCache.matches("W/\"abc\"", etag));
+        assertTrue(PublicFeedCache.matches("\"x\", \"abc\"", etag));
+        assertTrue(PublicFeedCache.matches("*", etag));
+        assertFalse(PublicFeedCache.matches("\"x\"", etag));
+        assertFalse(PublicFeedCache.matches(null, etag));
+    }
+}
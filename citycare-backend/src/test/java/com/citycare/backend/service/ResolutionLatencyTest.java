@@ -0,0 +1,68 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.domain.IssueResolvedEvent;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.IssueRepository;
+
+class ResolutionLatencyTest {
+
+    private static final LocalDateTime REPORTED = LocalDateTime.now().minusHours(2);
+
+    private IssueRepository issueRepo;
+    private ResolutionLatency latency;
+
+    @BeforeEach
+    void setUp() {
+        issueRepo = mock(IssueRepository.class);
+        latency = new ResolutionLatency(issueRepo);
+        when(issueRepo.findTechnicianIdsByIssueIdIn(any())).thenReturn(List.of());
+        when(issueRepo.findResolutionRowsAfter(anyLong(), any())).thenReturn(List.of());
+    }
+
+    private static Object[] row(long id, LocalDateTime resolvedAt) {
+        return new Object[] { id, IssueType.POTHOLE, "Pune", REPORTED, resolvedAt };
+    }
+
+    private static IssueResolvedEvent resolved(long id, LocalDateTime resolvedAt) {
+        return new IssueResolvedEvent(id, IssueType.POTHOLE, "Pune", List.of(10L), REPORTED, resolvedAt);
+    }
+
+    @Test
+    void committedResolutionsAreCounted() {
+        latency.load();
+        latency.onIssueResolved(resolved(1L, REPORTED.plusHours(1)));
+
+        assertEquals(1, latency.getReport().getOverall().getCount());
+        assertEquals(3600, latency.getReport().getByTechnician().get(0).getMaxSeconds());
+    }
+
+    @Test
+    void resolutionsDuringALoadAreReplayedOntoTheFreshHistograms() {
+        LocalDateTime seenByLoad = LocalDateTime.now();
+        when(issueRepo.findResolutionRowsAfter(anyLong(), any())).thenAnswer(inv -> {
+            // 2 commits before its row is read, 3 after: only 3 is missing from the rows
+            latency.onIssueResolved(resolved(2L, seenByLoad.withNano(123_456_000)));
+            latency.onIssueResolved(resolved(3L, seenByLoad));
+            return new ArrayList<>(List.<Object[]>of(row(1L, REPORTED.plusMinutes(5)),
+                    row(2L, seenByLoad.withNano(0))));
+        });
+
+        latency.load();
+
+        assertEquals(3, latency.getReport().getOverall().getCount());
+        assertEquals(1, latency.getReport().getByTechnician().get(0).getCount()); // only the event knew technicians
+    }
+}
@@ -0,0 +1,134 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.domain.IssueEvent;
+import com.citycare.backend.domain.IssueEventType;
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.repository.TechnicianRepository;
+
+class TechnicianAssignmentEngineTest {
+
+    private static final double LAT = 18.5204;
+    private static final double LON = 73.8567;
+
+    private TechnicianRepository techRepo;
+    private TechnicianAssignmentEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        techRepo = mock(TechnicianRepository.class);
+        engine = new TechnicianAssignmentEngine(techRepo, 1.0, 0.2);
+        // technicians 1 and 2 fix potholes, 3 fixes streetlights
+        when(techRepo.findAllSkills()).thenReturn(rows(
+                new Object[] { 1L, IssueType.POTHOLE },
+                new Object[] { 2L, IssueType.POTHOLE },
+                new Object[] { 3L, IssueType.BROKEN_STREETLIGHT }));
+        // technician 1 has two open issues, both technicians live next to the issue
+        when(techRepo.findOpenLoad()).thenReturn(rows(new Object[] { 1L, 2L, null, null }));
+        when(techRepo.findAllHomeLocations()).thenReturn(rows(
+                new Object[] { 1L, LAT, LON },
+                new Object[] { 2L, LAT, LON }));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @Test
+    void leastLoadedSkilledTechnicianWins() {
+        engine.load();
+
+        assertEquals(List.of(2L, 1L), engine.recommend(IssueType.POTHOLE, LAT, LON, 5));
+        assertEquals(2L, engine.pickBest(IssueType.POTHOLE, LAT, LON));
+        assertNull(engine.pickBest(IssueType.WATER_LEAK, LAT, LON));
+    }
+
+    @Test
+    void assignmentsAndReleasesMoveTheRanking() {
+        engine.load();
+
+        engine.onAssigned(List.of(2L));
+        engine.onAssigned(List.of(2L));
+        engine.onAssigned(List.of(2L));
+        assertEquals(1L, engine.pickBest(IssueType.POTHOLE, LAT, LON));
+
+        engine.onReleased(List.of(2L));
+        engine.onReleased(List.of(2L));
+        assertEquals(List.of(2L, 1L), engine.recommend(IssueType.POTHOLE, LAT, LON, 5)); // one open issue vs two
+    }
+
+    @Test
+    void committedCreatesAndDeletesMoveTheLoad() {
+        engine.load();
+
+        for (int i = 0; i < 3; i++) {
+            engine.onIssueEvent(event(IssueEventType.CREATED, IssueStatus.PENDING, List.of(2L)));
+        }
+        engine.onIssueEvent(event(IssueEventType.CREATED, IssueStatus.RESOLVED, List.of(1L))); // no open work
+        engine.onIssueEvent(event(IssueEventType.ASSIGNED, IssueStatus.PENDING, List.of(1L))); // counted by the service
+        assertEquals(List.of(1L, 2L), engine.recommend(IssueType.POTHOLE, LAT, LON, 5)); // two open issues vs three
+
+        engine.onIssueEvent(event(IssueEventType.DELETED, IssueStatus.PENDING, List.of(2L)));
+        engine.onIssueEvent(event(IssueEventType.DELETED, IssueStatus.PENDING, List.of(2L)));
+        assertEquals(2L, engine.pickBest(IssueType.POTHOLE, LAT, LON));
+    }
+
+    private static IssueEvent event(IssueEventType type, IssueStatus status, List<Long> technicianIds) {
+        return new IssueEvent(type, 9L, 1L, "t", null, IssueType.POTHOLE, status, "Pune", LAT, LON, technicianIds,
+                null, null, LocalDateTime.now());
+    }
+
+    @Test
+    void distanceCountsWhenLoadIsEqual() {
+        when(techRepo.findOpenLoad()).thenReturn(rows());
+        when(techRepo.findAllHomeLocations()).thenReturn(rows(
+                new Object[] { 1L, LAT, LON },
+                new Object[] { 2L, LAT + 0.1, LON })); // ~11 km away
+        engine.load();
+
+        assertEquals(List.of(1L, 2L), engine.recommend(IssueType.POTHOLE, LAT, LON, 5));
+    }
+
+    @Test
+    void changesMadeDuringAReloadSurviveTheSwap() {
+        engine.load();
+        // while the reload reads the tables: a new technician is added, one is
+        // removed and technician 2 takes on work
+        when(techRepo.findOpenLoad()).thenAnswer(inv -> {
+            engine.upsertTechnician(4L, Set.of(IssueType.WATER_LEAK));
+            engine.removeTechnician(3L);
+            engine.onAssigned(List.of(2L));
+            engine.onAssigned(List.of(2L));
+            engine.onAssigned(List.of(2L));
+            return rows(new Object[] { 1L, 2L, null, null });
+        });
+        engine.load();
+
+        assertEquals(4L, engine.pickBest(IssueType.WATER_LEAK, LAT, LON));
+        assertNull(engine.pickBest(IssueType.BROKEN_STREETLIGHT, LAT, LON));
+        assertEquals(1L, engine.pickBest(IssueType.POTHOLE, LAT, LON));
+    }
+
+    @Test
+    void skillChangesMoveTheTechnicianBetweenTypes() {
+        engine.load();
+
+        engine.upsertTechnician(3L, Set.of(IssueType.POTHOLE));
+
+        assertNull(engine.pickBest(IssueType.BROKEN_STREETLIGHT, LAT, LON));
+        assertEquals(3, engine.recommend(IssueType.POTHOLE, LAT, LON, 5).size());
+    }
+}
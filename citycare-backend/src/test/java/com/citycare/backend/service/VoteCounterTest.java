@@ -0,0 +1,140 @@
+package com.citycare.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.citycare.backend.repository.IssueRepository;
+import com.citycare.backend.repository.VoteRepository;
+import com.citycare.backend.response.VoteCountResponse;
+
+class VoteCounterTest {
+
+    private static final long ISSUE = 7L;
+
+    // the "vote table": committed up / down votes of ISSUE
+    private final AtomicLong committedUp = new AtomicLong();
+    private final AtomicLong committedDown = new AtomicLong();
+
+    private VoteRepository voteRepo;
+    private IssueRepository issueRepo;
+    private VoteCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        voteRepo = mock(VoteRepository.class);
+        issueRepo = mock(IssueRepository.class);
+        when(issueRepo.existsById(any())).thenReturn(true);
+        when(issueRepo.findExistingIds(anyCollection())).thenAnswer(inv -> new ArrayList<>(inv.<Collection<Long>>getArgument(0)));
+        when(voteRepo.countVotesByIssueIds(anyCollection())).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Long id : inv.<Collection<Long>>getArgument(0)) {
+                if (id == ISSUE)
+                    rows.add(new Object[] { id, committedUp.get(), committedDown.get() });
+            }
+            // a slow query widens the window for a commit to slip in
+            Thread.sleep(1);
+            return rows;
+        });
+        counter = new VoteCounter(voteRepo, issueRepo, null);
+    }
+
+    @Test
+    void deltasApplyOnlyToLoadedTallies() throws Exception {
+        counter.recordChange(ISSUE, null, true); // not loaded: ignored
+        committedUp.set(1);
+        assertEquals(1, counter.getCounts(ISSUE).getUpvotes());
+
+        counter.recordChange(ISSUE, null, true);
+        counter.recordChange(ISSUE, true, false);
+        VoteCountResponse counts = counter.getCounts(ISSUE);
+        assertEquals(1, counts.getUpvotes());
+        assertEquals(1, counts.getDownvotes());
+    }
+
+    @Test
+    void sameDirectionIsNotAChange() throws Exception {
+        counter.register(ISSUE);
+        counter.recordChange(ISSUE, true, true);
+        assertEquals(0, counter.getCounts(ISSUE).getUpvotes());
+    }
+
+    @Test
+    void bulkReadSkipsUnknownIssues() {
+        when(issueRepo.findExistingIds(anyCollection())).thenReturn(List.of(ISSUE));
+        committedDown.set(2);
+        List<VoteCountResponse> counts = counter.getCounts(List.of(ISSUE, 99L));
+        assertEquals(1, counts.size());
+        assertEquals(2, counts.get(0).getDownvotes());
+    }
+
+    // Each round drops the tally, then votes commit and record their delta
+    // while another thread loads the tally from the "table" (single or bulk
+    // read). Whatever the interleaving, the loaded tally must equal the
+    // committed rows: no vote counted twice (load between commit and delta)
+    // or lost (delta skipped while a load still read the old rows).
+    @Test
+    void concurrentVotesAndLoadsNeitherDoubleCountNorLose() throws Exception {
+        int rounds = 150;
+        int voters = 4;
+        int votesEach = 5;
+        ExecutorService pool = Executors.newFixedThreadPool(voters + 1);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                counter.remove(ISSUE);
+                boolean bulk = round % 2 == 1;
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> tasks = new ArrayList<>();
+                for (int v = 0; v < voters; v++) {
+                    boolean up = v % 2 == 0;
+                    tasks.add(pool.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < votesEach; i++) {
+                            counter.write(ISSUE, () -> {
+                                (up ? committedUp : committedDown).incrementAndGet(); // commit
+                                Thread.sleep(0, 200_000);
+                                counter.recordChange(ISSUE, null, up);
+                                return null;
+                            });
+                        }
+                        return null;
+                    }));
+                }
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    Thread.sleep(1);
+                    if (bulk)
+                        counter.getCounts(List.of(ISSUE));
+                    else
+                        counter.getCounts(ISSUE);
+                    return null;
+                }));
+                start.countDown();
+                for (Future<?> task : tasks) {
+                    task.get(30, TimeUnit.SECONDS);
+                }
+
+                VoteCountResponse counts = counter.peek(ISSUE);
+                assertEquals(committedUp.get(), counts.getUpvotes(), "upvotes after round " + round);
+                assertEquals(committedDown.get(), counts.getDownvotes(), "downvotes after round " + round);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
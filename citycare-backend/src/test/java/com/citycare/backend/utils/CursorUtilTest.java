@@ -0,0 +1,42 @@
+package com.citycare.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class CursorUtilTest {
+
+    @Test
+    void cursorRoundTrips() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2025, 10, 25, 10, 15, 30, 123_000_000);
+        String cursor = CursorUtil.encode(at, 42L);
+
+        assertEquals("2025-10-25T10:15:30.123_42", cursor);
+        assertEquals(at, CursorUtil.decodeReportedAt(cursor));
+        assertEquals(42L, CursorUtil.decodeId(cursor));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        for (String cursor : new String[] { "42", "_42", "2025-10-25T10:15:30_", "yesterday_42",
+                "2025-10-25T10:15:30_x" }) {
+            Exception e = assertThrows(Exception.class, () -> {
+                CursorUtil.decodeReportedAt(cursor);
+                CursorUtil.decodeId(cursor);
+            });
+            assertEquals("Invalid cursor", e.getMessage());
+        }
+    }
+
+    @Test
+    void pageSizeDefaultsAndClamps() {
+        assertEquals(CursorUtil.DEFAULT_PAGE_SIZE, CursorUtil.pageSize(null));
+        assertEquals(1, CursorUtil.pageSize(0));
+        assertEquals(1, CursorUtil.pageSize(-5));
+        assertEquals(20, CursorUtil.pageSize(20));
+        assertEquals(CursorUtil.MAX_PAGE_SIZE, CursorUtil.pageSize(10_000));
+    }
+}
@@ -0,0 +1,74 @@
+package com.citycare.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 10; v++) {
+            h.record(v);
+        }
+
+        assertEquals(10, h.getCount());
+        assertEquals(5, h.percentile(50));
+        assertEquals(9, h.percentile(90));
+        assertEquals(10, h.percentile(100));
+    }
+
+    @Test
+    void largeValuesStayWithinTheBucketError() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            h.record(v);
+        }
+
+        long p99 = h.percentile(99);
+        assertTrue(p99 >= 99_000 && p99 <= 99_000 * 1.04, "p99 " + p99);
+        assertEquals(100_000, h.percentile(100)); // capped at the recorded max
+    }
+
+    @Test
+    void everyBucketBoundHoldsItsValues() {
+        for (long v : new long[] { 0, 31, 32, 63, 64, 65, 1000, 123_456_789, LatencyHistogram.MAX_VALUE }) {
+            int index = LatencyHistogram.index(v);
+            assertTrue(LatencyHistogram.highestEquivalent(index) >= v, "value " + v);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalent(index - 1) < v, "value " + v);
+        }
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(-5);
+        h.record(Long.MAX_VALUE);
+
+        assertEquals(0, h.percentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, h.getMax());
+    }
+
+    @Test
+    void mergeAddsCounts() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(20);
+        b.record(30);
+
+        a.merge(b);
+
+        assertEquals(3, a.getCount());
+        assertEquals(30, a.getMax());
+        assertEquals(20, a.percentile(50));
+        assertEquals(2, b.getCount());
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        assertEquals(0, new LatencyHistogram().percentile(99));
+    }
+}
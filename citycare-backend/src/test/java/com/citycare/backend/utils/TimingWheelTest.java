@@ -0,0 +1,58 @@
+package com.citycare.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    // long ticks so the few milliseconds a test takes never move a deadline
+    private static final long TICK = 1000;
+
+    private final List<String> ran = new ArrayList<>();
+
+    private void tick(TimingWheel wheel, int times) {
+        for (int i = 0; i < times; i++) {
+            wheel.tick();
+        }
+    }
+
+    @Test
+    void taskRunsOnTheTickItFallsDueIn() {
+        TimingWheel wheel = new TimingWheel(8, TICK);
+        wheel.schedule(() -> ran.add("a"), 2500); // due within the third tick
+
+        tick(wheel, 2);
+        assertEquals(List.of(), ran);
+        tick(wheel, 1);
+        assertEquals(List.of("a"), ran);
+        tick(wheel, 8);
+        assertEquals(List.of("a"), ran); // ran once
+    }
+
+    @Test
+    void overdueTaskRunsOnTheNextTick() {
+        TimingWheel wheel = new TimingWheel(8, TICK);
+        wheel.schedule(() -> ran.add("a"), 0);
+
+        tick(wheel, 1);
+        assertEquals(List.of("a"), ran);
+    }
+
+    @Test
+    void delaysLongerThanOneTurnWaitForTheirRound() {
+        TimingWheel wheel = new TimingWheel(4, TICK);
+        wheel.schedule(() -> ran.add("late"), 9500); // ten ticks: two and a half turns
+        wheel.schedule(() -> ran.add("early"), 1500);
+
+        tick(wheel, 2);
+        assertEquals(List.of("early"), ran);
+        tick(wheel, 7);
+        assertEquals(List.of("early"), ran);
+        tick(wheel, 1);
+        assertEquals(List.of("early", "late"), ran);
+    }
+}
@@ -0,0 +1,47 @@
+package com.citycare.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class TtlCacheTest {
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        TtlCache<String, Integer> cache = new TtlCache<>(2, 60_000);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a"); // b is now the eldest
+
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void expiredEntryIsDroppedOnRead() {
+        TtlCache<String, Integer> cache = new TtlCache<>(10, -1); // expired as soon as written
+        cache.put("a", 1);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void putReplacesAndRemoveDrops() {
+        TtlCache<String, Integer> cache = new TtlCache<>(10, 60_000);
+        cache.put("a", 1);
+        cache.put("a", 2);
+        cache.put("b", 3);
+        assertEquals(2, cache.get("a"));
+
+        cache.remove("a");
+        assertNull(cache.get("a"));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,148 @@
+package com.citycare.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.citycare.backend.domain.IssueStatus;
+import com.citycare.backend.domain.IssueType;
+import com.citycare.backend.model.Address;
+import com.citycare.backend.model.Citizen;
+import com.citycare.backend.model.Issue;
+import com.citycare.backend.model.IssueAttachment;
+import com.citycare.backend.model.Technician;
+import com.citycare.backend.model.Vote;
+import com.citycare.backend.utils.CursorUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Jackson output of the Issue entity graph as the issue endpoints return it:
+// one issue, and one default-size page. The graph is built from fixed values
+// so every run serializes the same bytes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class IssueSerializationBenchmark {
+
+    @Param({ "0", "10", "100" })
+    public int votes;
+
+    @Param({ "1", "3" })
+    public int technicians;
+
+    @Param({ "3" })
+    public int attachments;
+
+    private ObjectMapper objectMapper;
+    private Issue issue;
+    private List<Issue> page;
+
+    @Setup
+    public void setup() {
+        // same settings Spring Boot applies to the application's mapper
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        issue = issue(1);
+        page = new ArrayList<>();
+        for (int i = 1; i <= CursorUtil.DEFAULT_PAGE_SIZE; i++) {
+            page.add(issue(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeIssue() throws Exception {
+        return objectMapper.writeValueAsBytes(issue);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private Issue issue(long id) {
+        LocalDateTime reportedAt = LocalDateTime.of(2025, 10, 1, 10, 0).plusMinutes(id);
+
+        Citizen citizen = new Citizen();
+        citizen.setId(id);
+        citizen.setName("Citizen " + id);
+        citizen.setEmail("citizen" + id + "@citycare.test");
+        citizen.setPhone("9000000000");
+
+        Address address = new Address();
+        address.setId(id);
+        address.setName("Report location");
+        address.setStreetAddress(id + " Main Road");
+        address.setLocality("Banjara Hills");
+        address.setCity("Hyderabad");
+        address.setState("Telangana");
+        address.setPinCode("500034");
+        address.setMobile("9000000000");
+        address.setLatitude(17.3850 + id * 1e-4);
+        address.setLongitude(78.4867 + id * 1e-4);
+
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setTitle("Deep pothole near the bus stop #" + id);
+        issue.setDescription("Two-wheelers swerve into traffic to avoid it; it fills with water when it rains.");
+        issue.setIssueType(IssueType.POTHOLE);
+        issue.setStatus(IssueStatus.IN_PROGRESS);
+        issue.setReportedAt(reportedAt);
+        issue.setUpvoteCount((long) votes);
+        issue.setDownvoteCount(0L);
+        issue.setCitizen(citizen);
+        issue.setAddress(address);
+        address.setIssue(issue);
+
+        issue.setAttachments(new HashSet<>());
+        for (int i = 0; i < attachments; i++) {
+            IssueAttachment attachment = new IssueAttachment();
+            attachment.setId(id * 100 + i);
+            attachment.setImageUrl("https://images.citycare.test/issues/" + id + "/" + i + ".jpg");
+            attachment.setIssue(issue);
+            issue.getAttachments().add(attachment);
+        }
+
+        issue.setVotes(new HashSet<>());
+        for (int i = 0; i < votes; i++) {
+            Vote vote = new Vote();
+            vote.setId(id * 1000 + i);
+            vote.setUpvote(i % 5 != 0);
+            vote.setComment(i % 3 == 0 ? "Same problem on my way to work" : null);
+            vote.setCitizen(citizen);
+            vote.setIssue(issue);
+            issue.getVotes().add(vote);
+        }
+
+        issue.setAssignedTechnicians(new HashSet<>());
+        for (int i = 0; i < technicians; i++) {
+            Technician technician = new Technician();
+            technician.setId((long) i + 1);
+            technician.setName("Technician " + (i + 1));
+            technician.setEmail("tech" + (i + 1) + "@citycare.test");
+            technician.setPhone("9100000000");
+            technician.setSkills(EnumSet.of(IssueType.POTHOLE));
+            issue.getAssignedTechnicians().add(technician);
+        }
+        return issue;
+    }
+}
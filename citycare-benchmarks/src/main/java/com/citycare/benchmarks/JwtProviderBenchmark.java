@@ -0,0 +1,90 @@
+package com.citycare.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.citycare.backend.config.JwtProvider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Token issue / parse and authority flattening in JwtProvider
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class JwtProviderBenchmark {
+
+    static final String EMAIL = "citizen@citycare.test";
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+
+        // verified-token cache as deployed, or disabled so every parse checks the signature
+        @Param({ "true", "false" })
+        public boolean verifiedCache;
+
+        JwtProvider jwtProvider;
+        Authentication authentication;
+        String token;
+
+        @Setup
+        public void setup() {
+            jwtProvider = new JwtProvider(verifiedCache ? 10_000 : 0, 60, new SimpleMeterRegistry());
+            authentication = new UsernamePasswordAuthenticationToken(EMAIL, null,
+                    List.of(new SimpleGrantedAuthority("ROLE_CITIZEN")));
+            token = jwtProvider.generateJwtToken(authentication);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Authorities {
+
+        @Param({ "1", "4", "16" })
+        public int authorityCount;
+
+        JwtProvider jwtProvider;
+        List<GrantedAuthority> authorities;
+
+        @Setup
+        public void setup() {
+            jwtProvider = new JwtProvider(10_000, 60, new SimpleMeterRegistry());
+            authorities = new ArrayList<>();
+            for (int i = 0; i < authorityCount; i++) {
+                authorities.add(new SimpleGrantedAuthority(i == 0 ? "ROLE_CITIZEN" : "SCOPE_" + i));
+            }
+        }
+    }
+
+    @Benchmark
+    public String generateJwtToken(Tokens state) {
+        return state.jwtProvider.generateJwtToken(state.authentication);
+    }
+
+    @Benchmark
+    public String getEmailFromJwtToken(Tokens state) {
+        return state.jwtProvider.getEmailFromJwtToken(state.token);
+    }
+
+    @Benchmark
+    public String populateAuthorities(Authorities state) {
+        return state.jwtProvider.populateAuthorities(state.authorities);
+    }
+}
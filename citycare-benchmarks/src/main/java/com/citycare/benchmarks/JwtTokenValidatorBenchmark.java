@@ -0,0 +1,73 @@
+package com.citycare.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.citycare.backend.config.JwtProvider;
+import com.citycare.backend.config.JwtTokenValidator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// One pass of the JWT filter per request. anonymousRequest is the same mock
+// request without a token: subtract it to get the cost of the validation itself.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class JwtTokenValidatorBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean verifiedCache;
+
+    private JwtTokenValidator validator;
+    private String authorization;
+
+    @Setup
+    public void setup() {
+        JwtProvider jwtProvider = new JwtProvider(verifiedCache ? 10_000 : 0, 60, new SimpleMeterRegistry());
+        validator = new JwtTokenValidator(jwtProvider);
+        authorization = "Bearer " + jwtProvider.generateJwtToken(new UsernamePasswordAuthenticationToken(
+                JwtProviderBenchmark.EMAIL, null, List.of(new SimpleGrantedAuthority("ROLE_CITIZEN"))));
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws Exception {
+        return filter(authorization);
+    }
+
+    @Benchmark
+    public Authentication anonymousRequest() throws Exception {
+        return filter(null);
+    }
+
+    private Authentication filter(String header) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues/my-issues");
+        if (header != null)
+            request.addHeader("Authorization", header);
+        validator.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
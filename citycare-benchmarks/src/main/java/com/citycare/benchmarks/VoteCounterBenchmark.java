@@ -0,0 +1,74 @@
+package com.citycare.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.citycare.backend.response.VoteCountResponse;
+import com.citycare.backend.service.VoteCounter;
+
+// In-memory vote tallies: the write on every vote and the read behind every
+// count. No database is involved (the write-behind flush is not scheduled here).
+// Run with -t 4 (or more) to see contention on hot issues.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class VoteCounterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Tallies {
+
+        // few issues = every thread votes on the same hot rows
+        @Param({ "10", "100000" })
+        public int issues;
+
+        VoteCounter voteCounter;
+
+        @Setup
+        public void setup() {
+            voteCounter = new VoteCounter(null, null, null);
+            for (long id = 1; id <= issues; id++) {
+                voteCounter.register(id);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Ids {
+        private final SplittableRandom random = new SplittableRandom(42);
+
+        long next(int bound) {
+            return random.nextInt(bound) + 1L;
+        }
+    }
+
+    @Benchmark
+    public void recordVote(Tallies tallies, Ids ids) {
+        long issueId = ids.next(tallies.issues);
+        tallies.voteCounter.recordChange(issueId, null, Boolean.TRUE);
+    }
+
+    @Benchmark
+    public void switchVote(Tallies tallies, Ids ids) {
+        long issueId = ids.next(tallies.issues);
+        tallies.voteCounter.recordChange(issueId, Boolean.TRUE, Boolean.FALSE);
+    }
+
+    @Benchmark
+    public VoteCountResponse peekCounts(Tallies tallies, Ids ids) {
+        return tallies.voteCounter.peek(ids.next(tallies.issues));
+    }
+}
@@ -0,0 +1,342 @@
+package com.citycare.benchmarks.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.citycare.backend.utils.LatencyHistogram;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Closed-loop HTTP load against a backend started with the loadtest profile
+// (synthetic accounts citizen<n>@load.test / technician<n>@load.test). Every
+// virtual user logs in once as a citizen and as a technician, then loops over
+// weighted scenarios with no think time: public feed, vote, technician update,
+// issue creation and login. Latency is recorded per endpoint after the warm-up
+// and reported as throughput and percentiles.
+//
+// java -cp target/benchmarks.jar com.citycare.benchmarks.load.LoadTestDriver \
+//     --base-url=http://localhost:8083 --users=50 --warmup=15 --duration=60
+public class LoadTestDriver {
+
+    private static final String[] CITIES = { "Hyderabad", "Bengaluru", "Chennai", "Mumbai", "Pune", "Delhi" };
+    private static final double[][] CENTERS = { { 17.3850, 78.4867 }, { 12.9716, 77.5946 }, { 13.0827, 80.2707 },
+            { 19.0760, 72.8777 }, { 18.5204, 73.8567 }, { 28.6139, 77.2090 } };
+    private static final String[] TYPES = { "POTHOLE", "BROKEN_STREETLIGHT", "GARBAGE_OVERFLOW", "WATER_LEAK",
+            "ROAD_DAMAGE", "STREET_FLOODING" };
+
+    // scenario weights, out of 100
+    private static final int FEED = 40;
+    private static final int VOTE = 25;
+    private static final int TECHNICIAN = 20;
+    private static final int CREATE = 10;
+
+    private static final int MAX_ERROR_SAMPLES = 10;
+
+    private final String baseUrl;
+    private final int users;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int citizens;
+    private final int technicians;
+    private final int issues;
+    private final String password;
+    private final long seed;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errorSamples = new ConcurrentHashMap<>();
+    private final AtomicBoolean measuring = new AtomicBoolean();
+    private volatile boolean running = true;
+
+    private static final class Endpoint {
+        final LatencyHistogram micros = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private static final class Session {
+        final SplittableRandom random;
+        final String email;
+        final String citizenJwt;
+        final String technicianJwt;
+        final Map<String, String> etags = new HashMap<>();
+
+        Session(SplittableRandom random, String email, String citizenJwt, String technicianJwt) {
+            this.random = random;
+            this.email = email;
+            this.citizenJwt = citizenJwt;
+            this.technicianJwt = technicianJwt;
+        }
+    }
+
+    LoadTestDriver(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8083");
+        this.users = Integer.parseInt(options.getOrDefault("users", "50"));
+        this.warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        this.durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        // must match citycare.loadtest.* of the server
+        this.citizens = Integer.parseInt(options.getOrDefault("citizens", "2000"));
+        this.technicians = Integer.parseInt(options.getOrDefault("technicians", "100"));
+        this.issues = Integer.parseInt(options.getOrDefault("issues", "20000"));
+        this.password = options.getOrDefault("password", "loadtest");
+        this.seed = Long.parseLong(options.getOrDefault("seed", "1"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        new LoadTestDriver(options).run();
+    }
+
+    void run() throws Exception {
+        awaitReadiness();
+        List<Session> sessions = login();
+        System.out.printf("%d users logged in; warm-up %ds, measuring %ds%n", sessions.size(), warmupSeconds,
+                durationSeconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Session session : sessions) {
+                executor.submit(() -> loop(session));
+            }
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            endpoints.clear();
+            errorSamples.clear();
+            measuring.set(true);
+            long start = System.nanoTime();
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            running = false;
+            measuring.set(false);
+            report((System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    // ---------------- SET UP ----------------
+
+    // readiness flips only after the startup warm-ups (indexes, counters, directory)
+    private void awaitReadiness() throws Exception {
+        long deadline = System.currentTimeMillis() + 300_000;
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness")).build();
+        while (true) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                    return;
+            } catch (IOException e) {
+                // not listening yet
+            }
+            if (System.currentTimeMillis() > deadline)
+                throw new IllegalStateException("Backend at " + baseUrl + " did not become ready");
+            TimeUnit.SECONDS.sleep(1);
+        }
+    }
+
+    // Logins run in parallel (BCrypt makes them slow) and are not part of the report
+    private List<Session> login() throws Exception {
+        List<Session> sessions = new ArrayList<>(users);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Session>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                int user = i;
+                futures.add(executor.submit(() -> {
+                    String email = "citizen" + (user % citizens + 1) + "@load.test";
+                    String citizenJwt = token(email, "ROLE_CITIZEN");
+                    String technicianJwt = token("technician" + (user % technicians + 1) + "@load.test",
+                            "ROLE_TECHNICIAN");
+                    return new Session(new SplittableRandom(seed + user), email, citizenJwt, technicianJwt);
+                }));
+            }
+            for (Future<Session> future : futures) {
+                sessions.add(future.get());
+            }
+        }
+        return sessions;
+    }
+
+    private String token(String email, String role) throws Exception {
+        HttpResponse<byte[]> response = send("login", post("/auth/login", loginBody(email, role)));
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("Login failed for " + email + ": " + response.statusCode() + " "
+                    + new String(response.body()));
+        return mapper.readTree(response.body()).path("jwt").asText();
+    }
+
+    // ---------------- SCENARIOS ----------------
+
+    private void loop(Session session) {
+        while (running) {
+            int roll = session.random.nextInt(100);
+            try {
+                if (roll < FEED)
+                    feed(session);
+                else if (roll < FEED + VOTE)
+                    vote(session);
+                else if (roll < FEED + VOTE + TECHNICIAN)
+                    technicianUpdate(session);
+                else if (roll < FEED + VOTE + TECHNICIAN + CREATE)
+                    createIssue(session);
+                else
+                    send("POST /auth/login", post("/auth/login", loginBody(session.email, "ROLE_CITIZEN")));
+            } catch (Exception e) {
+                sample("exception", e.toString());
+            }
+        }
+    }
+
+    // First page of the public feed, all cities or one; revalidated with the
+    // ETag held from the previous visit like a browser would
+    private void feed(Session session) throws Exception {
+        String path = session.random.nextBoolean()
+                ? "/api/issues/all-public?size=20"
+                : "/api/issues/all-public?size=20&city=" + CITIES[session.random.nextInt(CITIES.length)];
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept-Encoding", "gzip");
+        String etag = session.etags.get(path);
+        if (etag != null)
+            request.header("If-None-Match", etag);
+        HttpResponse<byte[]> response = send("GET /api/issues/all-public", request.build());
+        response.headers().firstValue("ETag").ifPresent(tag -> session.etags.put(path, tag));
+    }
+
+    private void vote(Session session) throws Exception {
+        long issueId = session.random.nextInt(issues) + 1L;
+        boolean upvote = session.random.nextInt(4) != 0;
+        send("POST /api/votes/{id}", authorized(baseUrl + "/api/votes/" + issueId + "?upvote=" + upvote,
+                session.citizenJwt).POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    // Assigned work list, then one status move: pending -> in progress -> resolved,
+    // resolved issues are reopened so the working set never drains
+    private void technicianUpdate(Session session) throws Exception {
+        HttpResponse<byte[]> response = send("GET /api/issues/my-assigned/summary",
+                authorized(baseUrl + "/api/issues/my-assigned/summary", session.technicianJwt).GET().build());
+        if (response.statusCode() != 200)
+            return;
+        JsonNode assigned = mapper.readTree(response.body());
+        if (assigned.isEmpty())
+            return;
+        JsonNode issue = assigned.get(session.random.nextInt(assigned.size()));
+        String next = switch (issue.path("status").asText()) {
+            case "PENDING" -> "IN_PROGRESS";
+            case "IN_PROGRESS" -> "RESOLVED";
+            default -> "IN_PROGRESS";
+        };
+        send("PATCH /api/issues/{id}/update-status",
+                authorized(baseUrl + "/api/issues/" + issue.path("id").asLong() + "/update-status?status=" + next,
+                        session.technicianJwt).method("PATCH", HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    private void createIssue(Session session) throws Exception {
+        SplittableRandom random = session.random;
+        int c = random.nextInt(CITIES.length);
+        Map<String, Object> body = new HashMap<>();
+        body.put("title", "Load test issue " + random.nextLong(Long.MAX_VALUE));
+        body.put("description", "Reported by the load driver near landmark " + random.nextInt(100_000));
+        body.put("issueType", TYPES[random.nextInt(TYPES.length)]);
+        body.put("city", CITIES[c]);
+        body.put("locality", "Locality " + random.nextInt(50));
+        body.put("streetAddress", "Street " + random.nextInt(500));
+        body.put("latitude", CENTERS[c][0] + (random.nextDouble() - 0.5) * 0.09);
+        body.put("longitude", CENTERS[c][1] + (random.nextDouble() - 0.5) * 0.09);
+        send("POST /api/issues/create", authorized(baseUrl + "/api/issues/create", session.citizenJwt)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body))).build());
+    }
+
+    // ---------------- HTTP ----------------
+
+    private HttpRequest post(String path, byte[] json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String url, String jwt) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Authorization", "Bearer " + jwt);
+    }
+
+    private byte[] loginBody(String email, String role) throws Exception {
+        return mapper.writeValueAsBytes(Map.of("email", email, "password", password, "role", role));
+    }
+
+    // Times the full exchange including the body; 304 counts as success
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        long micros = (System.nanoTime() - start) / 1000;
+        if (measuring.get()) {
+            Endpoint stats = endpoints.computeIfAbsent(endpoint, e -> new Endpoint());
+            stats.micros.record(micros);
+            if (response.statusCode() >= 400) {
+                stats.errors.increment();
+                String body = new String(response.body());
+                sample(endpoint, response.statusCode() + " " + body.substring(0, Math.min(body.length(), 120)));
+            }
+        }
+        return response;
+    }
+
+    private void sample(String endpoint, String message) {
+        String key = endpoint + ": " + message;
+        LongAdder count = errorSamples.get(key);
+        if (count == null && errorSamples.size() < MAX_ERROR_SAMPLES)
+            count = errorSamples.computeIfAbsent(key, k -> new LongAdder());
+        if (count != null)
+            count.increment();
+    }
+
+    // ---------------- REPORT ----------------
+
+    private void report(double seconds) {
+        String format = "%-40s %9s %7s %9s %9s %9s %9s %9s%n";
+        System.out.printf(format, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        LatencyHistogram all = new LatencyHistogram();
+        long errors = 0;
+        for (String name : endpoints.keySet().stream().sorted().toList()) {
+            Endpoint stats = endpoints.get(name);
+            all.merge(stats.micros);
+            errors += stats.errors.sum();
+            row(format, name, stats.micros, stats.errors.sum(), seconds);
+        }
+        row(format, "total", all, errors, seconds);
+        if (!errorSamples.isEmpty()) {
+            System.out.println("\nerrors (first " + MAX_ERROR_SAMPLES + " distinct):");
+            errorSamples.forEach((message, count) -> System.out.println("  " + count.sum() + " x " + message));
+        }
+    }
+
+    private static void row(String format, String name, LatencyHistogram micros, long errors, double seconds) {
+        System.out.printf(format, name, micros.getCount(), errors,
+                String.format("%.1f", micros.getCount() / seconds),
+                millis(micros.percentile(50)), millis(micros.percentile(90)), millis(micros.percentile(99)),
+                millis(micros.getMax()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
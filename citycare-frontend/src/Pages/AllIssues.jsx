@@ -111,20 +111,29 @@ import VoteToggle from "./VoteButtons";
 import IssueMap from "./IssueMap";
 
 const ISSUE_API = "http://localhost:8083/api/issues/all-public";
+const PAGE_SIZE = 30;
 
 const AllIssues = () => {
   const [issues, setIssues] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null); // null once the last page is loaded
   const [selectedIssue, setSelectedIssue] = useState(null); // selected issue for map
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState(null);
   const [sortOption, setSortOption] = useState("none");
 
+  // one page per request; the next is fetched only when the user asks for more
+  const fetchPage = async (cursor) => {
+    const res = await axios.get(ISSUE_API, { params: { size: PAGE_SIZE, cursor } });
+    setIssues(prev => (cursor ? [...prev, ...res.data] : res.data));
+    setNextCursor(res.headers["x-next-cursor"] || null);
+  };
+
   useEffect(() => {
     const fetchIssues = async () => {
       try {
         setLoading(true);
-        const res = await axios.get(ISSUE_API);
-        setIssues(res.data);
+        await fetchPage();
       } catch (err) {
         console.error(err);
         setError("Failed to load public issues");
@@ -135,20 +144,25 @@ const AllIssues = () => {
     fetchIssues();
   }, []);
 
-  const issuesWithVotes = useMemo(() => {
-    return issues.map(issue => ({
-      ...issue,
-      upvotes: issue.votes.filter(v => v.upvote === true).length,
-      downvotes: issue.votes.filter(v => v.upvote === false).length,
-    }));
-  }, [issues]);
-
+  const loadMore = async () => {
+    try {
+      setLoadingMore(true);
+      await fetchPage(nextCursor);
+    } catch (err) {
+      console.error(err);
+      setError("Failed to load public issues");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // rows carry their vote counts
   const sortedIssues = useMemo(() => {
-    const arr = [...issuesWithVotes];
+    const arr = [...issues];
     if (sortOption === "upvotes") return arr.sort((a, b) => b.upvotes - a.upvotes);
     if (sortOption === "downvotes") return arr.sort((a, b) => b.downvotes - a.downvotes);
     return arr;
-  }, [issuesWithVotes, sortOption]);
+  }, [issues, sortOption]);
 
   if (loading) return <div className="text-center mt-10">Loading issues...</div>;
   if (error) return <div className="text-center mt-10 text-red-500">{error}</div>;
@@ -177,10 +191,10 @@ const AllIssues = () => {
             ← Back to Issues
           </button>
           <IssueMap
-            latitude={selectedIssue.address.latitude}
-            longitude={selectedIssue.address.longitude}
+            latitude={selectedIssue.latitude}
+            longitude={selectedIssue.longitude}
             title={selectedIssue.title}
-            address={selectedIssue.address}
+            address={selectedIssue}
           />
         </div>
       ) : (
@@ -191,10 +205,10 @@ const AllIssues = () => {
               onClick={() => setSelectedIssue(issue)}
               className="cursor-pointer bg-white rounded-lg shadow-md border overflow-hidden hover:shadow-lg transition"
             >
-              {issue.attachments?.length > 0 && (
+              {issue.imageUrls?.length > 0 && (
                 <div className="h-48 overflow-hidden">
                   <img
-                    src={issue.attachments[0].imageUrl}
+                    src={issue.imageUrls[0]}
                     alt="Issue Attachment"
                     className="w-full h-full object-cover"
                   />
@@ -203,13 +217,12 @@ const AllIssues = () => {
               <div className="p-4 space-y-2">
                 <h2 className="text-lg font-semibold">{issue.title}</h2>
                 <p className="text-gray-600 text-sm">{issue.description}</p>
-                {issue.address && (
+                {issue.city && (
                   <div className="text-xs text-gray-500 mt-1">
-                    <p>{issue.address.name}</p>
-                    <p>{issue.address.streetAddress}, {issue.address.locality}</p>
-                    <p>{issue.address.city} - {issue.address.pinCode}</p>
-                    <p>{issue.address.state}</p>
-                    <p>📞 {issue.address.mobile}</p>
+                    <p>{issue.addressName}</p>
+                    <p>{issue.streetAddress}, {issue.locality}</p>
+                    <p>{issue.city} - {issue.pinCode}</p>
+                    <p>{issue.state}</p>
                   </div>
                 )}
                 <span className="inline-block px-2 py-1 text-xs font-medium bg-blue-100 text-blue-800 rounded">
@@ -221,6 +234,18 @@ const AllIssues = () => {
           ))}
         </div>
       )}
+
+      {!selectedIssue && nextCursor && (
+        <div className="text-center">
+          <button
+            onClick={loadMore}
+            disabled={loadingMore}
+            className="px-4 py-2 bg-gray-200 rounded hover:bg-gray-300 disabled:opacity-50"
+          >
+            {loadingMore ? "Loading..." : "Load more"}
+          </button>
+        </div>
+      )}
     </div>
   );
 };
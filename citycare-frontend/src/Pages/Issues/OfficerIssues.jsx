@@ -5,7 +5,7 @@ import { fetchTechnicians } from "../../State/Officer/OffTechnicianSlice";
 
 const OfficerIssues = () => {
   const dispatch = useAppDispatch();
-  const { issues = [], loading, error } = useAppSelector(state => state.issues);
+  const { issues = [], issuesCursor, loading, loadingMore, error } = useAppSelector(state => state.issues);
   const { technicians = [] } = useAppSelector(state => state.offtechnician);
   const token = localStorage.getItem("jwt");
 
@@ -14,7 +14,7 @@ const OfficerIssues = () => {
 
   useEffect(() => {
     if (token) {
-      dispatch(fetchAllIssues(token));
+      dispatch(fetchAllIssues({ token }));
       dispatch(fetchTechnicians(token));
     }
   }, [dispatch, token]);
@@ -37,22 +37,13 @@ const OfficerIssues = () => {
     });
   };
 
-  // Compute vote counts
-  const issuesWithVotes = useMemo(() => {
-    return issues.map(issue => ({
-      ...issue,
-      upvotes: issue.votes?.filter(v => v.upvote === true).length || 0,
-      downvotes: issue.votes?.filter(v => v.upvote === false).length || 0,
-    }));
-  }, [issues]);
-
-  // Sorting logic
+  // Sorting logic (rows carry their vote counts)
   const sortedIssues = useMemo(() => {
-    const arr = [...issuesWithVotes];
+    const arr = [...issues];
     if (sortOption === "upvotes") return arr.sort((a, b) => b.upvotes - a.upvotes);
     if (sortOption === "downvotes") return arr.sort((a, b) => b.downvotes - a.downvotes);
     return arr;
-  }, [issuesWithVotes, sortOption]);
+  }, [issues, sortOption]);
 
   if (loading) return <div className="text-center mt-10">Loading issues...</div>;
   if (error) return <div className="text-center mt-10 text-red-500">{error}</div>;
@@ -94,7 +85,7 @@ const OfficerIssues = () => {
               <td className="border px-2 py-1">{issue.description}</td>
               <td className="border px-2 py-1 font-semibold">{issue.status}</td>
               <td className="border px-2 py-1">
-                {issue.address?.streetAddress}, {issue.address?.city}, {issue.address?.state} - {issue.address?.pinCode}
+                {issue.streetAddress}, {issue.city}, {issue.state} - {issue.pinCode}
               </td>
               <td className="border px-2 py-1 font-medium flex flex-wrap gap-2">
                 <span className="flex items-center gap-1 bg-green-100 text-green-800 px-2 py-0.5 rounded-full text-sm">
@@ -106,9 +97,9 @@ const OfficerIssues = () => {
               </td>
 
               <td className="border px-2 py-1 space-y-1">
-                {issue.assignedTechnicians?.length > 0 ? (
+                {issue.technicians?.length > 0 ? (
                   <ul className="text-sm">
-                    {issue.assignedTechnicians.map(t => (
+                    {issue.technicians.map(t => (
                       <li key={t.id} className="font-medium">{t.name}</li>
                     ))}
                   </ul>
@@ -150,6 +141,18 @@ const OfficerIssues = () => {
           )}
         </tbody>
       </table>
+
+      {issuesCursor && (
+        <div className="text-center">
+          <button
+            onClick={() => dispatch(fetchAllIssues({ token, cursor: issuesCursor }))}
+            disabled={loadingMore}
+            className="px-4 py-2 bg-gray-200 rounded hover:bg-gray-300 disabled:opacity-50"
+          >
+            {loadingMore ? "Loading..." : "Load more"}
+          </button>
+        </div>
+      )}
     </div>
   );
 };
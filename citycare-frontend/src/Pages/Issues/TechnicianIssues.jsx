@@ -38,9 +38,7 @@ const TechnicianIssues = () => {
 
   // Sort issues by number of upvotes
   const sortedIssues = [...assignedIssues].sort((a, b) => {
-    const votesA = a.votes ? a.votes.filter(v => v.upvote).length : 0;
-    const votesB = b.votes ? b.votes.filter(v => v.upvote).length : 0;
-    return sortByVotes ? votesB - votesA : 0;
+    return sortByVotes ? (b.upvotes || 0) - (a.upvotes || 0) : 0;
   });
 
   return (
@@ -106,7 +104,7 @@ const TechnicianIssues = () => {
                   <td className="px-4 py-3 text-gray-600">{issue.issueType}</td>
                   <td className="px-4 py-3 text-gray-600">{issue.description}</td>
                   <td className="px-4 py-3 font-semibold text-gray-700">
-                    {issue.votes ? issue.votes.filter(v => v.upvote).length : 0} 👍
+                    {issue.upvotes || 0} 👍
                   </td>
                   <td className="px-4 py-3">{getStatusBadge(issue.status)}</td>
                   <td className="px-4 py-3 text-center space-x-2">
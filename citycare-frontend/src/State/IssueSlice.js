@@ -2,6 +2,7 @@ import { createSlice, createAsyncThunk } from "@reduxjs/toolkit";
 import axios from "axios";
 
 const API = "http://localhost:8083/api/issues";
+const PAGE_SIZE = 50;
 
 // ------------------ Async Thunks ------------------
 
@@ -47,13 +48,16 @@ export const deleteIssue = createAsyncThunk(
 );
 
 // Officer
+// One page per call; pass the previous page's nextCursor to load the one after it
 export const fetchAllIssues = createAsyncThunk(
   "issue/fetchAllIssues",
-  async (token, { rejectWithValue }) => {
+  async ({ token, cursor }, { rejectWithValue }) => {
     try {
-      const res = await axios.get(`${API}/all`, { headers: { Authorization: `Bearer ${token}` } });
-      console.log(res.data)
-      return res.data;
+      const res = await axios.get(`${API}/all`, {
+        headers: { Authorization: `Bearer ${token}` },
+        params: { size: PAGE_SIZE, cursor },
+      });
+      return { issues: res.data, nextCursor: res.headers["x-next-cursor"] || null };
     } catch (err) {
       return rejectWithValue(err.response?.data?.message || err.message);
     }
@@ -114,6 +118,8 @@ const issueSlice = createSlice({
   name: "issue",
   initialState: {
     issues: [],
+    issuesCursor: null, // next page of the officer listing, null on the last one
+    loadingMore: false,
     myIssues: [],
      assignedIssues: [],
     loading: false,
@@ -153,15 +159,32 @@ const issueSlice = createSlice({
       .addCase(deleteIssue.rejected, (state, action) => { state.loading = false; state.error = action.payload; })
 
       // Fetch All Issues (Officer)
-      .addCase(fetchAllIssues.pending, state => { state.loading = true; state.error = null; })
-      .addCase(fetchAllIssues.fulfilled, (state, action) => { state.loading = false; state.issues = action.payload; })
-      .addCase(fetchAllIssues.rejected, (state, action) => { state.loading = false; state.error = action.payload; })
+      .addCase(fetchAllIssues.pending, (state, action) => {
+        if (action.meta.arg.cursor) state.loadingMore = true;
+        else state.loading = true;
+        state.error = null;
+      })
+      .addCase(fetchAllIssues.fulfilled, (state, action) => {
+        const { issues, nextCursor } = action.payload;
+        state.issues = action.meta.arg.cursor ? [...state.issues, ...issues] : issues;
+        state.issuesCursor = nextCursor;
+        state.loading = false;
+        state.loadingMore = false;
+      })
+      .addCase(fetchAllIssues.rejected, (state, action) => {
+        state.loading = false;
+        state.loadingMore = false;
+        state.error = action.payload;
+      })
 
       // Assign Technicians
       .addCase(assignTechnicians.pending, state => { state.loading = true; state.error = null; })
       .addCase(assignTechnicians.fulfilled, (state, action) => {
         state.loading = false;
-        state.issues = state.issues.map(i => i.id === action.payload.id ? action.payload : i);
+        // the response is the full issue; listing rows keep their own shape
+        const { id, status, assignedTechnicians = [] } = action.payload;
+        const technicians = assignedTechnicians.map(({ id, name, phone }) => ({ id, name, phone }));
+        state.issues = state.issues.map(i => i.id === id ? { ...i, status, technicians } : i);
         state.successMessage = "Technicians assigned successfully";
       })
       .addCase(assignTechnicians.rejected, (state, action) => { state.loading = false; state.error = action.payload; })
@@ -170,9 +193,11 @@ const issueSlice = createSlice({
       .addCase(updateStatus.pending, state => { state.loading = true; state.error = null; })
       .addCase(updateStatus.fulfilled, (state, action) => {
         state.loading = false;
-         state.assignedIssues = state.assignedIssues.map(i => i.id === action.payload.id ? action.payload : i);
-        state.issues = state.issues.map(i => i.id === action.payload.id ? action.payload : i);
-        state.myIssues = state.myIssues.map(i => i.id === action.payload.id ? action.payload : i);
+        const { id, status } = action.payload;
+        const withStatus = i => i.id === id ? { ...i, status } : i;
+        state.assignedIssues = state.assignedIssues.map(withStatus);
+        state.issues = state.issues.map(withStatus);
+        state.myIssues = state.myIssues.map(withStatus);
         state.successMessage = "Status updated successfully";
       })
       .addCase(updateStatus.rejected, (state, action) => { state.loading = false; state.error = action.payload; })